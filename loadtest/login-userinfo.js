@@ -0,0 +1,52 @@
+// 플랫폼 스레드 / 가상 스레드 실행 비교용 부하 테스트(k6)
+//
+// 실행 예
+//   k6 run -e BASE_URL=http://localhost:11000 -e USER_ID=loadtest01 -e PASSWORD=1234 loadtest/login-userinfo.js
+//
+// 가상 사용자(VU)마다 로그인 후 세션을 유지하며 회원정보 조회, 아이디 중복 체크를 반복함
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:11000';
+const USER_ID = __ENV.USER_ID || 'loadtest01';
+const PASSWORD = __ENV.PASSWORD || '1234';
+
+export const options = {
+    scenarios: {
+        sessions: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 500 },
+                { duration: '2m', target: 2000 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{name:userInfo}': ['p(95)<300'],
+    },
+};
+
+export default function () {
+    const jar = http.cookieJar();
+
+    if (!jar.cookiesForURL(BASE_URL).SESSION) {
+        const res = http.post(`${BASE_URL}/login/v1/loginProc`,
+            { userId: USER_ID, password: PASSWORD },
+            { tags: { name: 'loginProc' } });
+
+        check(res, { 'login ok': (r) => r.status === 200 });
+    }
+
+    const info = http.post(`${BASE_URL}/user/v1/userInfo`, null, { tags: { name: 'userInfo' } });
+    check(info, { 'userInfo ok': (r) => r.status === 200 });
+
+    const exists = http.post(`${BASE_URL}/reg/v1/getUserIdExists`,
+        JSON.stringify({ userId: `new${__VU}${__ITER}` }),
+        { headers: { 'Content-Type': 'application/json' }, tags: { name: 'getUserIdExists' } });
+    check(exists, { 'getUserIdExists ok': (r) => r.status === 200 });
+
+    sleep(1);
+}
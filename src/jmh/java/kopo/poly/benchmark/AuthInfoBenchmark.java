@@ -0,0 +1,47 @@
+package kopo.poly.benchmark;
+
+import kopo.poly.auth.AuthInfo;
+import kopo.poly.dto.UserInfoDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthInfo.getAuthorities() 성능 측정(권한 확인이 필요한 요청마다 호출됨)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AuthInfoBenchmark {
+
+    @Param({"ROLE_USER", "ROLE_USER,ROLE_ADMIN"})
+    public String roles;
+
+    private AuthInfo authInfo;
+
+    private final GrantedAuthority required = new SimpleGrantedAuthority("ROLE_ADMIN");
+
+    @Setup
+    public void setup() {
+        authInfo = AuthInfo.from(UserInfoDTO.builder()
+                .userId("hglee67")
+                .userName("이협건")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z7aF5Ww6pvzpwYV0j8Mw4z1e")
+                .roles(roles)
+                .build());
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authInfo.getAuthorities();
+    }
+
+    // hasAnyAuthority("ROLE_ADMIN") 권한 확인
+    @Benchmark
+    public boolean containsAuthority() {
+        return authInfo.getAuthorities().contains(required);
+    }
+}
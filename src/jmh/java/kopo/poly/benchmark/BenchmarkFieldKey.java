@@ -0,0 +1,22 @@
+package kopo.poly.benchmark;
+
+import kopo.poly.util.EncryptUtil;
+import kopo.poly.util.FieldEnvelopeCipher;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 성능 측정용 컬럼 암호화 키 등록(서버에서는 CryptoConfig가 crypto.field.keys로 등록함)
+ */
+final class BenchmarkFieldKey {
+
+    private static final byte[] KEY = "BenchmarkKey0001".getBytes(StandardCharsets.UTF_8);
+
+    private BenchmarkFieldKey() {
+    }
+
+    static void register() {
+        EncryptUtil.setEnvelopeCipher(new FieldEnvelopeCipher(Map.of(1, KEY), 1));
+    }
+}
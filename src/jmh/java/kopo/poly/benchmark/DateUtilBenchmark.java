@@ -0,0 +1,53 @@
+package kopo.poly.benchmark;
+
+import kopo.poly.util.DateUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateUtil 날짜 변환 성능 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DateUtilBenchmark {
+
+    private final Integer epochSecond = 1_700_000_000;
+
+    private final LocalDateTime dateTime = LocalDateTime.of(2024, 1, 1, 9, 30, 0);
+
+    private final String legacyDateTime = "2024-01-01 09:30:00";
+
+    // 기존 방식(호출마다 SimpleDateFormat 생성)
+    @Benchmark
+    public String getDateTimeSimpleDateFormat() {
+        return new SimpleDateFormat(DateUtil.DATE_TIME_FORMAT).format(new Date());
+    }
+
+    // 형식별 DateTimeFormatter 재사용
+    @Benchmark
+    public String getDateTime() {
+        return DateUtil.getDateTime(DateUtil.DATE_TIME_FORMAT);
+    }
+
+    @Benchmark
+    public String getLongDateTime() {
+        return DateUtil.getLongDateTime(epochSecond);
+    }
+
+    // LocalDateTime → 문자열 컬럼(LegacyDateTimeConverter 저장)
+    @Benchmark
+    public String format() {
+        return DateUtil.format(dateTime);
+    }
+
+    // 문자열 컬럼 → LocalDateTime(LegacyDateTimeConverter 조회)
+    @Benchmark
+    public LocalDateTime parse() {
+        return DateUtil.parse(legacyDateTime);
+    }
+}
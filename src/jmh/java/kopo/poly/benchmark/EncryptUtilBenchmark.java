@@ -0,0 +1,78 @@
+package kopo.poly.benchmark;
+
+import kopo.poly.util.EncryptUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EncryptUtil, FieldCipher 암호화/복호화 성능 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EncryptUtilBenchmark {
+
+    private static final String EMAIL = "hglee67@kopo.ac.kr";
+
+    private String legacyEncrypted;
+
+    private String envelopeEncrypted;
+
+    private List<String> emails;
+
+    private List<String> encryptedEmails;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkFieldKey.register();
+
+        legacyEncrypted = EncryptUtil.encAES128CBC(EMAIL);
+        envelopeEncrypted = EncryptUtil.encField(EMAIL);
+
+        emails = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            emails.add("user" + i + "@kopo.ac.kr");
+        }
+        encryptedEmails = EncryptUtil.getFieldCipher().encryptAll(emails);
+    }
+
+    @Benchmark
+    public String encAES128CBC() throws Exception {
+        return EncryptUtil.encAES128CBC(EMAIL);
+    }
+
+    @Benchmark
+    public String decAES128CBC() throws Exception {
+        return EncryptUtil.decAES128CBC(legacyEncrypted);
+    }
+
+    @Benchmark
+    public String encHashSHA256() {
+        return EncryptUtil.encHashSHA256(EMAIL);
+    }
+
+    @Benchmark
+    public String encField() throws Exception {
+        return EncryptUtil.encField(EMAIL);
+    }
+
+    @Benchmark
+    public String decField() throws Exception {
+        return EncryptUtil.decField(envelopeEncrypted);
+    }
+
+    // 100건 한 번에 암호화(건당 시간은 결과 / 100)
+    @Benchmark
+    public List<String> encryptAll100() throws Exception {
+        return EncryptUtil.getFieldCipher().encryptAll(emails);
+    }
+
+    // 100건 한 번에 복호화(건당 시간은 결과 / 100)
+    @Benchmark
+    public List<String> decryptAll100() throws Exception {
+        return EncryptUtil.getFieldCipher().decryptAll(encryptedEmails);
+    }
+}
@@ -0,0 +1,149 @@
+package kopo.poly.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import kopo.poly.auth.UserRole;
+import kopo.poly.config.SampledSqlStatementInspector;
+import kopo.poly.dto.UserInfoDTO;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 처리 중 로그 출력 성능 측정
+ * <p>
+ * 로그인 1번에 출력되는 로그(Start, 아이디, End) 3건 기준
+ * - legacy : 기존 형식("{}.loadUserByUsername Start!", this.getClass().getName())
+ * - sync : 요청 스레드에서 바로 패턴 로그 출력(기본 설정)
+ * - asyncJson : 대기열에 넣기만 하고 JSON 변환, 출력은 별도 스레드에서 처리(json-log 프로필)
+ * 출력 대상은 OutputStream.nullOutputStream()(콘솔 출력 시간 제외, 로그 처리 비용만 측정)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private LoggerContext syncContext;
+
+    private LoggerContext asyncContext;
+
+    private Logger syncLog;
+
+    private Logger asyncLog;
+
+    private SampledSqlStatementInspector sqlInspector;
+
+    private UserInfoDTO pDTO;
+
+    private final String userId = "hglee67";
+
+    @Setup
+    public void setup() {
+        PatternLayoutEncoder patternEncoder = new PatternLayoutEncoder();
+        syncContext = new LoggerContext();
+        patternEncoder.setContext(syncContext);
+        patternEncoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n");
+        patternEncoder.start();
+
+        syncLog = syncContext.getLogger("kopo.poly.service.impl.UserInfoService");
+        syncLog.addAppender(nullAppender(syncContext, patternEncoder));
+        syncLog.setLevel(Level.INFO);
+        syncLog.setAdditive(false);
+
+        asyncContext = new LoggerContext();
+        LogstashEncoder jsonEncoder = new LogstashEncoder();
+        jsonEncoder.setContext(asyncContext);
+        jsonEncoder.setIncludeCallerData(false);
+        jsonEncoder.start();
+
+        // logback-spring.xml(json-log 프로필)과 같은 설정
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(asyncContext);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(1024);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.setIncludeCallerData(false);
+        asyncAppender.addAppender(nullAppender(asyncContext, jsonEncoder));
+        asyncAppender.start();
+
+        asyncLog = asyncContext.getLogger("kopo.poly.service.impl.UserInfoService");
+        asyncLog.addAppender(asyncAppender);
+        asyncLog.setLevel(Level.INFO);
+        asyncLog.setAdditive(false);
+
+        // 기본 설정(kopo.poly.sql : INFO)
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger("kopo.poly.sql").setLevel(Level.INFO);
+        sqlInspector = new SampledSqlStatementInspector(0.01);
+
+        pDTO = UserInfoDTO.builder()
+                .userId(userId)
+                .userName("이협건")
+                .password("1234")
+                .email("hglee67@kopo.ac.kr")
+                .addr1("서울특별시 강서구")
+                .addr2("우장산로 10길 112")
+                .roles(UserRole.USER.getValue())
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        syncContext.stop();
+        asyncContext.stop();
+    }
+
+    // 기존 형식, 요청 스레드에서 바로 출력
+    @Benchmark
+    public void syncLegacy() {
+        syncLog.info("{}.loadUserByUsername Start!", this.getClass().getName());
+        syncLog.info("userId : {}", userId);
+        syncLog.info("{}.loadUserByUsername End!", this.getClass().getName());
+    }
+
+    // 클래스 이름 인자 제거, 요청 스레드에서 바로 출력
+    @Benchmark
+    public void sync() {
+        syncLog.info("loadUserByUsername Start!");
+        syncLog.info("userId : {}", userId);
+        syncLog.info("loadUserByUsername End!");
+    }
+
+    // 클래스 이름 인자 제거, 비동기 JSON 출력(json-log 프로필)
+    @Benchmark
+    public void asyncJson() {
+        asyncLog.info("loadUserByUsername Start!");
+        asyncLog.info("userId : {}", userId);
+        asyncLog.info("loadUserByUsername End!");
+    }
+
+    // SQL 로그(기본값 꺼짐)
+    @Benchmark
+    public String sqlInspectorDisabled() {
+        return sqlInspector.inspect("select u1_0.user_id from user_info u1_0 where u1_0.user_id=?");
+    }
+
+    // 회원 정보 로그 출력(비밀번호, 이메일 마스킹)
+    @Benchmark
+    public String maskedToString() {
+        return pDTO.toString();
+    }
+
+    private static OutputStreamAppender<ILoggingEvent> nullAppender(LoggerContext context, Encoder<ILoggingEvent> encoder) {
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        return appender;
+    }
+}
@@ -0,0 +1,86 @@
+package kopo.poly.benchmark;
+
+import kopo.poly.auth.AuthInfo;
+import kopo.poly.dto.UserInfoDTO;
+import kopo.poly.session.CompactSessionRedisSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spring Session(Redis) 세션 속성 직렬화 성능 측정
+ * - jdk : RedisTemplate 기본 직렬화(JdkSerializationRedisSerializer), compact : CompactSessionRedisSerializer
+ * - 직렬화 결과 크기(bytes)는 측정 시작 시 출력함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SessionSerializationBenchmark {
+
+    @Param({"jdk", "compact"})
+    private String format;
+
+    private RedisSerializer<Object> serializer;
+
+    // 로그인 후 세션에 저장되는 SPRING_SECURITY_CONTEXT 값
+    private SecurityContextImpl securityContext;
+
+    private byte[] serializedContext;
+
+    private byte[] serializedUserId;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkFieldKey.register();
+
+        serializer = "compact".equals(format)
+                ? new CompactSessionRedisSerializer(getClass().getClassLoader(), true)
+                : new JdkSerializationRedisSerializer();
+
+        AuthInfo authInfo = AuthInfo.from(UserInfoDTO.createUser(UserInfoDTO.builder()
+                        .userId("hglee67")
+                        .userName("이협건")
+                        .email("hglee67@kopo.ac.kr")
+                        .addr1("서울특별시 강서구")
+                        .addr2("우장산로 10길 112")
+                        .build(),
+                "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z7aF5Ww6pvzpwYV0j8Mw4z1e", "ROLE_USER")).withoutCredentials();
+
+        securityContext = new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(authInfo, null, authInfo.getAuthorities()));
+
+        serializedContext = serializer.serialize(securityContext);
+        serializedUserId = serializer.serialize("hglee67");
+
+        System.out.printf("[%s] SecurityContext : %d bytes, SS_USER_ID : %d bytes%n",
+                format, serializedContext.length, serializedUserId.length);
+    }
+
+    @Benchmark
+    public byte[] serializeSecurityContext() {
+        return serializer.serialize(securityContext);
+    }
+
+    @Benchmark
+    public Object deserializeSecurityContext() {
+        return serializer.deserialize(serializedContext);
+    }
+
+    // SS_USER_ID, SS_USER_NAME, SS_USER_ROLE 등 문자열 세션 속성
+    @Benchmark
+    public void serializeStringAttributes(Blackhole bh) {
+        bh.consume(serializer.serialize("hglee67"));
+        bh.consume(serializer.serialize("이협건"));
+        bh.consume(serializer.serialize("ROLE_USER"));
+    }
+
+    @Benchmark
+    public Object deserializeStringAttribute() {
+        return serializer.deserialize(serializedUserId);
+    }
+}
@@ -0,0 +1,86 @@
+package kopo.poly.benchmark;
+
+import kopo.poly.auth.UserRole;
+import kopo.poly.dto.UserInfoDTO;
+import kopo.poly.repository.entity.UserInfoEntity;
+import kopo.poly.util.EncryptUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserInfoDTO ↔ UserInfoEntity 변환 성능 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class UserInfoDTOBenchmark {
+
+    private static final String PASSWORD_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z7aF5Ww6pvzpwYV0j8Mw4z1e";
+
+    private UserInfoDTO pDTO;
+
+    private UserInfoDTO nDTO;
+
+    private UserInfoEntity entity;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkFieldKey.register();
+
+        pDTO = UserInfoDTO.builder()
+                .userId("hglee67")
+                .userName("이협건")
+                .password("1234")
+                .email("hglee67@kopo.ac.kr")
+                .addr1("서울특별시 강서구")
+                .addr2("우장산로 10길 112")
+                .build();
+
+        nDTO = UserInfoDTO.createUser(pDTO, PASSWORD_HASH, UserRole.USER.getValue());
+        entity = UserInfoDTO.of(nDTO);
+    }
+
+    // 회원가입 정보 생성(이메일 암호화, 등록일시 포함)
+    @Benchmark
+    public UserInfoDTO createUser() throws Exception {
+        return UserInfoDTO.createUser(pDTO, PASSWORD_HASH, UserRole.USER.getValue());
+    }
+
+    // DTO → Entity
+    @Benchmark
+    public UserInfoEntity of() {
+        return UserInfoDTO.of(nDTO);
+    }
+
+    // Entity → DTO(이메일 복호화 포함)
+    @Benchmark
+    public UserInfoDTO from() throws Exception {
+        return UserInfoDTO.from(entity);
+    }
+
+    // Entity → DTO(기존 AES CBC 형식 이메일 복호화)
+    @Benchmark
+    public UserInfoDTO fromLegacyEmail(LegacyEntity state) throws Exception {
+        return UserInfoDTO.from(state.entity);
+    }
+
+    @State(Scope.Benchmark)
+    public static class LegacyEntity {
+
+        UserInfoEntity entity;
+
+        @Setup
+        public void setup() throws Exception {
+            entity = UserInfoEntity.builder()
+                    .userId("hglee67")
+                    .userName("이협건")
+                    .password(PASSWORD_HASH)
+                    .email(EncryptUtil.encAES128CBC("hglee67@kopo.ac.kr"))
+                    .addr1("서울특별시 강서구")
+                    .addr2("우장산로 10길 112")
+                    .roles(UserRole.USER.getValue())
+                    .build();
+        }
+    }
+}
@@ -3,9 +3,7 @@ package kopo.poly;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
 
-@EnableRedisHttpSession
 @EnableJpaRepositories
 @SpringBootApplication
 public class SpringSecurityApplication {
@@ -1,41 +1,116 @@
 package kopo.poly.auth;
 
 import kopo.poly.dto.UserInfoDTO;
+import kopo.poly.repository.view.UserCredentialsView;
 import kopo.poly.util.CmmUtil;
+import kopo.poly.util.MaskUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 
 
 /**
- * @param userInfoDTO 로그인된 사용자 정보 UserInfoRepository로부터 조회된 정보를 저장하기 위한 객체
+ * 로그인한 사용자 정보(Spring Security 인증 정보)
+ * <p>
+ * 인증 후 Redis 세션에 저장되고 요청마다 다시 읽히므로 인증, 권한 확인에 필요한 값만 저장함
+ * - 이메일, 주소 등 회원정보가 필요한 경우 CurrentUserProfile을 사용함
+ * - 로그인 성공 후에는 비밀번호를 지운 객체(withoutCredentials())가 세션에 저장됨
+ *
+ * @param userId      회원아이디
+ * @param userName    회원이름
+ * @param authorities 권한(로그인 시 1번만 변환한 RoleSet, 권한 확인 시 객체를 만들지 않음)
+ * @param password    비밀번호 해시(로그인 성공 후에는 null)
+ * @param locked      로그인 실패 횟수 초과로 인한 임시 잠금 여부(LoginAttemptStore, 세션에는 저장하지 않음)
  */
 @Slf4j
-public record AuthInfo(UserInfoDTO userInfoDTO) implements UserDetails {
+public record AuthInfo(String userId, String userName, Set<GrantedAuthority> authorities,
+                       String password, boolean locked) implements UserDetails {
 
     /**
-     * 로그인한 사용자의 권한 부여하기
+     * 회원아이디가 없는 로그인 사용자 정보는 만들지 않음
+     * - 이전 형식(UserInfoDTO 전체를 저장하던 AuthInfo) 세션 값은 record 역직렬화 시 이름이 같은 값이 없어 userId가 null이 되므로
+     * 예외를 발생시켜 세션 값을 읽지 못하도록 함(CompactSessionRedisSerializer에서 null로 처리하여 다시 로그인함)
      */
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
+    public AuthInfo {
+        if (userId == null) {
+            throw new IllegalArgumentException("userId must not be null");
+        }
+
+        authorities = RoleSet.copyOf(authorities);
+    }
+
+    public AuthInfo(String userId, String userName, Set<GrantedAuthority> authorities, String password) {
+        this(userId, userName, authorities, password, false);
+    }
+
+    /**
+     * DB에서 조회한 회원정보로 로그인 사용자 정보 만들기
+     */
+    public static AuthInfo from(UserInfoDTO dto) {
 
-        Set<GrantedAuthority> pSet = new HashSet<>();
+        // DB에 저장된 Role을 공유 권한 객체로 변환(같은 ROLES 값은 1번만 변환함)
+        return new AuthInfo(dto.userId(), dto.userName(), AuthorityRegistry.parse(dto.roles()), dto.password());
+    }
 
-        String roles = CmmUtil.nvl(userInfoDTO.roles());
+    /**
+     * DB에서 조회한 로그인 정보(UserCredentialsView)로 로그인 사용자 정보 만들기
+     */
+    public static AuthInfo from(UserCredentialsView view) {
+        return new AuthInfo(view.userId(), view.userName(), AuthorityRegistry.parse(view.roles()), view.password());
+    }
 
-        if (!roles.isEmpty()) { //DB에 저장된 Role이 있는 경우에만 실행
-            for (String role : roles.split(",")) {
-                pSet.add(new SimpleGrantedAuthority(role));
+    /**
+     * 비밀번호를 지운 로그인 사용자 정보(세션 저장용)
+     */
+    public AuthInfo withoutCredentials() {
+        return isCredentialsErased() ? this : new AuthInfo(userId, userName, authorities, null, locked);
+    }
+
+    /**
+     * 계정 잠금 상태를 반영한 로그인 사용자 정보
+     */
+    public AuthInfo withLocked(boolean locked) {
+        return this.locked == locked ? this : new AuthInfo(userId, userName, authorities, password, locked);
+    }
 
+    /**
+     * 비밀번호를 변경한 로그인 사용자 정보
+     */
+    public AuthInfo withPassword(String newPassword) {
+        return new AuthInfo(userId, userName, authorities, newPassword, locked);
+    }
+
+    // 비밀번호 삭제 여부
+    public boolean isCredentialsErased() {
+        return password == null;
+    }
+
+    /**
+     * 권한을 ,로 연결한 문자열(DB ROLES 컬럼 형식)
+     */
+    public String roles() {
+
+        StringBuilder sb = new StringBuilder();
+
+        for (GrantedAuthority authority : authorities) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
             }
+            sb.append(authority.getAuthority());
         }
 
-        return pSet;
+        return sb.toString();
+    }
+
+    /**
+     * 로그인한 사용자의 권한 부여하기
+     */
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
     }
 
     /**
@@ -43,14 +118,14 @@ public record AuthInfo(UserInfoDTO userInfoDTO) implements UserDetails {
      */
     @Override
     public String getUsername() {
-        return CmmUtil.nvl(userInfoDTO.userId());
+        return CmmUtil.nvl(userId);
 
     }
 
     // 사용자의 password를 반환
     @Override
     public String getPassword() {
-        return CmmUtil.nvl(userInfoDTO.password());
+        return CmmUtil.nvl(password);
     }
 
     // 계정 만료 여부 반환
@@ -59,10 +134,10 @@ public record AuthInfo(UserInfoDTO userInfoDTO) implements UserDetails {
         return true; // true -> 만료되지 않았음
     }
 
-    // 계정 잠금 여부 반환
+    // 계정 잠금 여부 반환(로그인 실패 횟수 초과 시 LockedException 발생, 비밀번호 확인 전에 거절됨)
     @Override
     public boolean isAccountNonLocked() {
-        return true; // true -> 잠금되지 않았음
+        return !locked; // true -> 잠금되지 않았음
     }
 
     // 패스워드의 만료 여부 반환
@@ -77,4 +152,12 @@ public record AuthInfo(UserInfoDTO userInfoDTO) implements UserDetails {
         return true; // true -> 사용 가능
     }
 
+    /**
+     * 로그 출력용 문자열(비밀번호 해시 마스킹)
+     */
+    @Override
+    public String toString() {
+        return "AuthInfo[userId=" + userId + ", userName=" + userName + ", authorities=" + authorities
+                + ", password=" + MaskUtil.password(password) + ", locked=" + locked + "]";
+    }
 }
@@ -0,0 +1,24 @@
+package kopo.poly.auth;
+
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 아이디, 비밀번호 로그인 처리
+ * <p>
+ * DaoAuthenticationProvider와 동일하게 처리하고, 로그인 성공 시 비밀번호를 지운 AuthInfo를 인증 정보로 사용함
+ * - 인증 정보는 Redis 세션에 저장되므로 비밀번호 해시가 세션에 남지 않도록 함
+ * - 비밀번호 해시 다시 저장하기(upgradeEncoding)는 비밀번호가 있는 user로 처리됨
+ */
+public class AuthInfoAuthenticationProvider extends DaoAuthenticationProvider {
+
+    @Override
+    protected Authentication createSuccessAuthentication(Object principal, Authentication authentication,
+                                                         UserDetails user) {
+
+        Object slimPrincipal = principal instanceof AuthInfo authInfo ? authInfo.withoutCredentials() : principal;
+
+        return super.createSuccessAuthentication(slimPrincipal, authentication, user);
+    }
+}
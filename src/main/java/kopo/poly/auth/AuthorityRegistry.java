@@ -0,0 +1,140 @@
+package kopo.poly.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 권한(GrantedAuthority) 저장소
+ * <p>
+ * 권한 이름마다 공유 객체(SimpleGrantedAuthority) 1개와 번호(비트 위치)를 정해두고, RoleSet이 비트로 권한을 저장함
+ * - UserRole에 정의된 권한은 서버 시작 시 UserRole 순서대로 0번부터 등록됨
+ * - DB에만 있는 권한은 처음 사용될 때 다음 번호로 등록됨
+ * - 번호는 서버마다 다를 수 있으므로 세션 등 외부에 저장할 때는 권한 이름을 사용해야 함
+ */
+@Slf4j
+public final class AuthorityRegistry {
+
+    // 등록 가능한 최대 권한 수(RoleSet이 long 비트로 저장함)
+    public static final int MAX_AUTHORITIES = Long.SIZE;
+
+    private static final ConcurrentHashMap<String, Integer> INDEXES = new ConcurrentHashMap<>();
+
+    private static final AtomicReferenceArray<GrantedAuthority> AUTHORITIES = new AtomicReferenceArray<>(MAX_AUTHORITIES);
+
+    // 같은 ROLES 컬럼 값은 1번만 변환함
+    private static final ConcurrentHashMap<String, RoleSet> PARSED = new ConcurrentHashMap<>();
+
+    private static final int MAX_PARSED = 1024;
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            register(role.getValue());
+        }
+    }
+
+    private AuthorityRegistry() {
+    }
+
+    /**
+     * 권한 이름의 공유 객체 가져오기(없으면 등록함)
+     */
+    public static GrantedAuthority authority(String authority) {
+        return AUTHORITIES.get(register(authority));
+    }
+
+    public static GrantedAuthority authority(UserRole role) {
+        return authority(role.getValue());
+    }
+
+    /**
+     * 권한 번호 가져오기
+     *
+     * @return 등록되지 않은 권한은 -1
+     */
+    public static int indexOf(String authority) {
+
+        if (authority == null) {
+            return -1;
+        }
+
+        Integer idx = INDEXES.get(authority);
+
+        return idx == null ? -1 : idx;
+    }
+
+    static GrantedAuthority get(int idx) {
+        return AUTHORITIES.get(idx);
+    }
+
+    /**
+     * 권한 등록하기
+     *
+     * @return 권한 번호
+     */
+    static int register(String authority) {
+
+        Integer idx = INDEXES.get(authority);
+
+        if (idx != null) {
+            return idx;
+        }
+
+        synchronized (INDEXES) {
+            idx = INDEXES.get(authority);
+
+            if (idx == null) {
+                int next = INDEXES.size();
+
+                if (next >= MAX_AUTHORITIES) {
+                    throw new IllegalStateException("Too many authorities (max " + MAX_AUTHORITIES + ") : " + authority);
+                }
+
+                // 객체를 먼저 저장한 뒤 번호를 공개함
+                AUTHORITIES.set(next, new SimpleGrantedAuthority(authority));
+                INDEXES.put(authority, next);
+
+                log.info("AuthorityRegistry register : {} -> {}", authority, next);
+
+                idx = next;
+            }
+        }
+
+        return idx;
+    }
+
+    /**
+     * ROLES 컬럼 값(,로 구분된 권한)을 RoleSet으로 변환하기
+     */
+    public static RoleSet parse(String roles) {
+
+        if (roles == null || roles.isBlank()) {
+            return RoleSet.EMPTY;
+        }
+
+        RoleSet res = PARSED.get(roles);
+
+        if (res == null) {
+            long mask = 0;
+
+            for (String role : roles.split(",")) {
+                String name = role.trim();
+
+                if (!name.isEmpty()) {
+                    mask |= 1L << register(name);
+                }
+            }
+
+            res = RoleSet.of(mask);
+
+            if (PARSED.size() < MAX_PARSED) {
+                PARSED.putIfAbsent(roles, res);
+            }
+        }
+
+        return res;
+    }
+}
@@ -0,0 +1,67 @@
+package kopo.poly.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * 서버 성능에 맞는 BCrypt 강도(strength, log rounds) 계산
+ * <p>
+ * 강도가 1 증가할 때마다 해시 시간이 약 2배 증가하므로
+ * 최소 강도부터 1씩 올리며 목표 시간(target)에 가장 가까운 강도를 찾음
+ */
+@Slf4j
+public class BCryptStrengthCalibrator {
+
+    // 측정용 비밀번호
+    private static final String SAMPLE_PASSWORD = "CalibrationPassword!1";
+
+    // 강도별 측정 횟수(가장 빠른 값을 사용하여 일시적인 지연의 영향을 줄임)
+    private static final int SAMPLE_COUNT = 3;
+
+    /**
+     * @param target      목표 해시 시간(예 : 50ms)
+     * @param minStrength 최소 강도(보안 기준)
+     * @param maxStrength 최대 강도(로그인 응답 시간 기준)
+     * @return 목표 시간에 가장 가까운 강도
+     */
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+
+        long targetNanos = target.toNanos();
+
+        int strength = minStrength;
+        long elapsed = measure(strength);
+
+        while (elapsed < targetNanos && strength < maxStrength) {
+            long nextElapsed = measure(strength + 1);
+
+            // 목표 시간을 넘었다면, 현재 강도가 목표 시간에 더 가까운 경우 현재 강도 사용
+            if (nextElapsed >= targetNanos && targetNanos - elapsed < nextElapsed - targetNanos) {
+                break;
+            }
+
+            strength++;
+            elapsed = nextElapsed;
+        }
+
+        log.info("BCrypt strength : {} (target : {}ms, measured : {}ms)",
+                strength, target.toMillis(), Duration.ofNanos(elapsed).toMillis());
+
+        return strength;
+    }
+
+    private static long measure(int strength) {
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        return best;
+    }
+}
@@ -0,0 +1,66 @@
+package kopo.poly.auth;
+
+import kopo.poly.dto.UserInfoDTO;
+import kopo.poly.service.IUserInfoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 로그인한 사용자의 회원정보(이메일, 주소 등)
+ * <p>
+ * 세션에는 AuthInfo(아이디, 이름, 권한)만 저장하므로 회원정보가 필요한 경우에만 이 객체로 조회함
+ * - 처음 get() 호출 시 1번만 조회하고, 같은 요청 안에서는 조회한 값을 다시 사용함
+ * - 조회는 IUserInfoService.getUserInfo()를 사용하므로 회원정보 캐시가 적용됨
+ * - JWT 인증(Bearer)도 AuthInfo를 인증 정보로 사용하므로 같은 방법으로 조회함
+ */
+@Slf4j
+@RequiredArgsConstructor
+@RequestScope
+@Component
+public class CurrentUserProfile {
+
+    // 회원 서비스
+    private final IUserInfoService userInfoService;
+
+    private UserInfoDTO profile;
+
+    private boolean loaded = false;
+
+    /**
+     * 로그인한 사용자의 회원정보 가져오기
+     *
+     * @return 회원정보(로그인하지 않은 경우 null)
+     */
+    public UserInfoDTO get() throws Exception {
+
+        if (!loaded) {
+            String userId = getUserId();
+
+            if (userId != null) {
+                profile = userInfoService.getUserInfo(UserInfoDTO.builder().userId(userId).build());
+            }
+
+            loaded = true;
+        }
+
+        return profile;
+    }
+
+    /**
+     * 로그인한 사용자 아이디(로그인하지 않은 경우 null)
+     */
+    public String getUserId() {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof AuthInfo authInfo) {
+            return authInfo.userId();
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,53 @@
+package kopo.poly.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 암호화(encode), 비교(matches)를 PasswordHashingExecutor에서 실행하는 PasswordEncoder
+ * - 요청 스레드는 해시 계산을 직접 하지 않고 결과만 기다림
+ * - 해시 계산 시간은 auth.password.hash(operation=encode, matches)로 기록함(대기 시간은 PasswordHashingExecutor 지표)
+ */
+public class ExecutorPasswordEncoder implements PasswordEncoder {
+
+    // 실제 암호화 객체(DelegatingPasswordEncoder)
+    private final PasswordEncoder delegate;
+
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    // 해시 계산 시간
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public ExecutorPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor passwordHashingExecutor,
+                                   MeterRegistry meterRegistry) {
+
+        this.delegate = delegate;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHashingExecutor.execute(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return passwordHashingExecutor.execute(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword); // 해시 계산 없이 형식만 확인하므로 바로 실행
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("password hash calculation time")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,143 @@
+package kopo.poly.auth;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 서버별 메모리 로그인 시도 저장소
+ * - 서버 1대(개발 환경) 또는 테스트에서 사용함, 여러 서버로 운영하는 경우 RedisLoginAttemptStore 사용
+ * - RedisLoginAttemptStore의 Lua 스크립트와 같은 규칙으로 동작함
+ * - 모든 처리를 하나의 락으로 처리함(로그인 요청만 사용하므로 경합이 적음)
+ */
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    // 저장된 아이디, IP 수가 이 값을 넘으면 만료된 기록을 정리함
+    private static final int CLEAN_UP_THRESHOLD = 100_000;
+
+    private final LoginThrottlePolicy policy;
+
+    private final Clock clock;
+
+    // 아이디, IP별 시도 시간(ms)
+    private final Map<String, Deque<Long>> attempts = new HashMap<>();
+
+    // 아이디별 실패 시간(ms)
+    private final Map<String, Deque<Long>> failures = new HashMap<>();
+
+    // 아이디별 잠금 해제 시간(ms)
+    private final Map<String, Long> lockedUntil = new HashMap<>();
+
+    public InMemoryLoginAttemptStore(LoginThrottlePolicy policy, Clock clock) {
+        this.policy = policy;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized Decision tryAcquire(String userId, String ip) {
+
+        long now = clock.millis();
+        long lockRemaining = lockRemaining(userId, now);
+
+        if (lockRemaining > 0) {
+            return new Decision(Status.LOCKED, lockRemaining);
+        }
+
+        long window = policy.window().toMillis();
+
+        Deque<Long> userAttempts = window("user:" + userId, attempts, now, window);
+        Deque<Long> ipAttempts = window("ip:" + ip, attempts, now, window);
+
+        long wait = Math.max(waitMillis(userAttempts, policy.maxAttemptsPerUser(), now, window),
+                waitMillis(ipAttempts, policy.maxAttemptsPerIp(), now, window));
+
+        if (wait > 0) {
+            return new Decision(Status.RATE_LIMITED, wait);
+        }
+
+        userAttempts.addLast(now);
+        ipAttempts.addLast(now);
+
+        if (attempts.size() > CLEAN_UP_THRESHOLD) {
+            cleanUp(now);
+        }
+
+        return Decision.ALLOWED;
+    }
+
+    @Override
+    public synchronized boolean recordFailure(String userId) {
+
+        long now = clock.millis();
+
+        Deque<Long> userFailures = window(userId, failures, now, policy.failureWindow().toMillis());
+        userFailures.addLast(now);
+
+        if (userFailures.size() >= policy.maxFailures()) {
+            lockedUntil.put(userId, now + policy.lockDuration().toMillis());
+            failures.remove(userId);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public synchronized void recordSuccess(String userId) {
+        failures.remove(userId);
+    }
+
+    @Override
+    public synchronized long lockRemainingMillis(String userId) {
+        return lockRemaining(userId, clock.millis());
+    }
+
+    private long lockRemaining(String userId, long now) {
+
+        Long until = lockedUntil.get(userId);
+
+        if (until == null) {
+            return 0;
+        }
+
+        if (until <= now) {
+            lockedUntil.remove(userId);
+            return 0;
+        }
+
+        return until - now;
+    }
+
+    /**
+     * 기간이 지난 기록을 지운 시간 목록
+     */
+    private static Deque<Long> window(String key, Map<String, Deque<Long>> map, long now, long window) {
+
+        Deque<Long> times = map.computeIfAbsent(key, k -> new ArrayDeque<>());
+
+        while (!times.isEmpty() && times.peekFirst() <= now - window) {
+            times.pollFirst();
+        }
+
+        return times;
+    }
+
+    /**
+     * 시도 수가 초과된 경우 가장 오래된 기록이 기간을 벗어날 때까지 남은 시간
+     */
+    private static long waitMillis(Deque<Long> times, int limit, long now, long window) {
+        return times.size() < limit ? 0 : times.peekFirst() + window - now;
+    }
+
+    private void cleanUp(long now) {
+
+        long window = policy.window().toMillis();
+        long failureWindow = policy.failureWindow().toMillis();
+
+        attempts.values().removeIf(times -> times.isEmpty() || times.peekLast() <= now - window);
+        failures.values().removeIf(times -> times.isEmpty() || times.peekLast() <= now - failureWindow);
+        lockedUntil.values().removeIf(until -> until <= now);
+    }
+}
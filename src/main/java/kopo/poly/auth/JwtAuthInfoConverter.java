@@ -0,0 +1,22 @@
+package kopo.poly.auth;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * 검증된 accessToken을 인증 정보로 변환하기
+ * - 세션 로그인과 같은 AuthInfo를 사용하므로 @AuthenticationPrincipal AuthInfo, CurrentUserProfile이
+ *   세션, JWT 방식 모두 같은 코드로 동작함
+ */
+public class JwtAuthInfoConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+
+        AuthInfo authInfo = JwtTokenProvider.toAuthInfo(jwt);
+
+        return UsernamePasswordAuthenticationToken.authenticated(authInfo, null, authInfo.getAuthorities());
+    }
+}
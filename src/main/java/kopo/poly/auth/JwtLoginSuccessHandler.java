@@ -0,0 +1,53 @@
+package kopo.poly.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kopo.poly.controller.response.CommonResponse;
+import kopo.poly.dto.TokenDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JWT 로그인(/login/v1/tokenProc) 성공 처리
+ * - 세션을 만들지 않고 accessToken, refreshToken을 JSON으로 응답함
+ */
+@Slf4j
+public class JwtLoginSuccessHandler implements AuthenticationSuccessHandler {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private final ObjectMapper objectMapper;
+
+    public JwtLoginSuccessHandler(JwtTokenProvider jwtTokenProvider, ObjectMapper objectMapper) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
+                                        Authentication authentication) throws IOException {
+
+        log.info("onAuthenticationSuccess Start!");
+
+        AuthInfo authInfo = (AuthInfo) authentication.getPrincipal();
+
+        log.info("userId : {}", authInfo.userId());
+
+        TokenDTO rDTO = jwtTokenProvider.issue(authInfo);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        objectMapper.writeValue(response.getWriter(), CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rDTO));
+
+        log.info("onAuthenticationSuccess End!");
+    }
+}
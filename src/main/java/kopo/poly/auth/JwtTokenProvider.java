@@ -0,0 +1,173 @@
+package kopo.poly.auth;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import kopo.poly.dto.TokenDTO;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtIssuerValidator;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * JWT 발급, 검증(security.jwt.enabled=true)
+ * <p>
+ * 서명 키(HMAC-SHA256)는 서버 시작 시 1번만 만들어 메모리에 보관하므로 토큰 검증 시 Redis, DB, 키 서버 조회가 없음
+ * - 모든 서버가 같은 키(security.jwt.secret)를 사용해야 다른 서버에서 발급한 토큰을 검증할 수 있음
+ * - accessToken : 회원아이디(sub), 회원이름, 권한 포함(요청마다 토큰만으로 AuthInfo를 만듦)
+ * - refreshToken : 회원아이디(sub)만 포함(재발급 시 회원정보, 계정 잠금 여부를 다시 확인함)
+ * - 두 토큰은 tokenType 클레임으로 구분하여 refreshToken을 accessToken으로 사용할 수 없음
+ */
+public class JwtTokenProvider {
+
+    public static final String TOKEN_TYPE_BEARER = "Bearer";
+
+    // 클레임 이름
+    public static final String CLAIM_USER_NAME = "userName";
+
+    public static final String CLAIM_ROLES = "roles";
+
+    public static final String CLAIM_TOKEN_TYPE = "tokenType";
+
+    private static final String ACCESS_TOKEN = "access";
+
+    private static final String REFRESH_TOKEN = "refresh";
+
+    // HS256 최소 키 길이(256bit)
+    public static final int MIN_SECRET_LENGTH = 32;
+
+    private final JwtEncoder jwtEncoder;
+
+    private final JwtDecoder accessTokenDecoder;
+
+    private final JwtDecoder refreshTokenDecoder;
+
+    private final String issuer;
+
+    private final Duration accessTokenTtl;
+
+    private final Duration refreshTokenTtl;
+
+    private final Clock clock;
+
+    /**
+     * @param secret          서명 키(32byte 이상)
+     * @param issuer          발급자(iss), 다른 서비스에서 발급한 토큰 거절
+     * @param accessTokenTtl  accessToken 유효 시간
+     * @param refreshTokenTtl refreshToken 유효 시간
+     */
+    public JwtTokenProvider(byte[] secret, String issuer, Duration accessTokenTtl, Duration refreshTokenTtl,
+                            Clock clock) {
+
+        if (secret == null || secret.length < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException("jwt secret must be at least " + MIN_SECRET_LENGTH + " bytes");
+        }
+
+        SecretKey key = new SecretKeySpec(secret, "HmacSHA256");
+
+        this.jwtEncoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+        this.accessTokenDecoder = decoder(key, issuer, ACCESS_TOKEN, clock);
+        this.refreshTokenDecoder = decoder(key, issuer, REFRESH_TOKEN, clock);
+        this.issuer = issuer;
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+        this.clock = clock;
+    }
+
+    /**
+     * 로그인 사용자 정보로 accessToken, refreshToken 발급하기
+     */
+    public TokenDTO issue(AuthInfo authInfo) {
+
+        Instant now = clock.instant();
+
+        JwtClaimsSet accessClaims = JwtClaimsSet.builder()
+                .issuer(issuer)
+                .subject(authInfo.userId())
+                .issuedAt(now)
+                .expiresAt(now.plus(accessTokenTtl))
+                .claim(CLAIM_TOKEN_TYPE, ACCESS_TOKEN)
+                .claim(CLAIM_USER_NAME, authInfo.userName())
+                .claim(CLAIM_ROLES, authInfo.roles())
+                .build();
+
+        JwtClaimsSet refreshClaims = JwtClaimsSet.builder()
+                .issuer(issuer)
+                .subject(authInfo.userId())
+                .issuedAt(now)
+                .expiresAt(now.plus(refreshTokenTtl))
+                .claim(CLAIM_TOKEN_TYPE, REFRESH_TOKEN)
+                .build();
+
+        return TokenDTO.builder()
+                .tokenType(TOKEN_TYPE_BEARER)
+                .accessToken(encode(accessClaims))
+                .expiresIn(accessTokenTtl.toSeconds())
+                .refreshToken(encode(refreshClaims))
+                .refreshExpiresIn(refreshTokenTtl.toSeconds())
+                .userId(authInfo.userId())
+                .userName(authInfo.userName())
+                .build();
+    }
+
+    /**
+     * accessToken 검증(서명, 만료 시간, 발급자, 토큰 종류), Resource Server 필터에서 사용함
+     */
+    public JwtDecoder getAccessTokenDecoder() {
+        return accessTokenDecoder;
+    }
+
+    /**
+     * refreshToken 검증 후 회원아이디 가져오기
+     *
+     * @throws JwtException 서명이 다르거나 만료된 토큰, accessToken인 경우
+     */
+    public String getRefreshTokenUserId(String refreshToken) throws JwtException {
+        return refreshTokenDecoder.decode(refreshToken).getSubject();
+    }
+
+    /**
+     * accessToken으로 로그인 사용자 정보 만들기(비밀번호 없음)
+     * - 권한은 AuthorityRegistry에서 변환한 공유 객체를 사용하므로 요청마다 권한 객체를 만들지 않음
+     */
+    public static AuthInfo toAuthInfo(Jwt jwt) {
+        return new AuthInfo(jwt.getSubject(), jwt.getClaimAsString(CLAIM_USER_NAME),
+                AuthorityRegistry.parse(jwt.getClaimAsString(CLAIM_ROLES)), null);
+    }
+
+    private String encode(JwtClaimsSet claims) {
+        return jwtEncoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                .getTokenValue();
+    }
+
+    private static JwtDecoder decoder(SecretKey key, String issuer, String tokenType, Clock clock) {
+
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+
+        JwtTimestampValidator timestampValidator = new JwtTimestampValidator();
+        timestampValidator.setClock(clock);
+
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                timestampValidator,
+                new JwtIssuerValidator(issuer),
+                new JwtClaimValidator<String>(JwtClaimNames.SUB, sub -> sub != null && !sub.isBlank()),
+                new JwtClaimValidator<String>(CLAIM_TOKEN_TYPE, tokenType::equals)));
+
+        return decoder;
+    }
+}
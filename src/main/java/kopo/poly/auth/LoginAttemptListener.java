@@ -0,0 +1,47 @@
+package kopo.poly.auth;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 성공, 실패 기록(Spring Security 인증 이벤트)
+ * - 아이디, 비밀번호 불일치(존재하지 않는 아이디 포함)만 실패로 기록함
+ * - 비밀번호 해시 작업 거절(503), 계정 잠금 등은 실패로 기록하지 않음
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LoginAttemptListener {
+
+    private final LoginAttemptStore loginAttemptStore;
+
+    @EventListener
+    public void onFailure(AuthenticationFailureBadCredentialsEvent event) {
+
+        String userId = event.getAuthentication().getName();
+
+        try {
+            if (loginAttemptStore.recordFailure(userId)) {
+                log.info("account locked userId : {}", userId);
+            }
+
+        } catch (RuntimeException e) {
+            log.warn("login attempt store error : {}", e.toString());
+        }
+    }
+
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+
+        try {
+            loginAttemptStore.recordSuccess(event.getAuthentication().getName());
+
+        } catch (RuntimeException e) {
+            log.warn("login attempt store error : {}", e.toString());
+        }
+    }
+}
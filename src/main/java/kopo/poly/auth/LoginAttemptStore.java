@@ -0,0 +1,63 @@
+package kopo.poly.auth;
+
+/**
+ * 로그인 시도, 실패 횟수 저장소
+ * - 구현 : RedisLoginAttemptStore(모든 서버가 함께 사용), InMemoryLoginAttemptStore(서버별 메모리, 테스트용)
+ * - 시도 수는 최근 window 동안의 횟수(Sliding Window)로 계산함
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * 로그인 시도 가능 여부 확인 및 시도 기록
+     * - 잠긴 계정이거나 아이디, IP별 시도 수가 초과된 경우 기록하지 않고 거절함
+     *
+     * @param userId 로그인 아이디
+     * @param ip     요청 IP
+     */
+    Decision tryAcquire(String userId, String ip);
+
+    /**
+     * 로그인 실패 기록(실패 수가 초과되면 계정을 잠금)
+     *
+     * @return 이번 실패로 계정이 잠겼는지 여부
+     */
+    boolean recordFailure(String userId);
+
+    /**
+     * 로그인 성공 기록(실패 수 초기화)
+     */
+    void recordSuccess(String userId);
+
+    /**
+     * 계정 잠금 여부
+     */
+    default boolean isLocked(String userId) {
+        return lockRemainingMillis(userId) > 0;
+    }
+
+    /**
+     * 계정 잠금 해제까지 남은 시간(ms), 잠기지 않았으면 0
+     */
+    long lockRemainingMillis(String userId);
+
+    /**
+     * 로그인 시도 결과
+     *
+     * @param status           결과
+     * @param retryAfterMillis 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    record Decision(Status status, long retryAfterMillis) {
+
+        public static final Decision ALLOWED = new Decision(Status.ALLOWED, 0);
+
+        public boolean isAllowed() {
+            return status == Status.ALLOWED;
+        }
+    }
+
+    enum Status {
+        ALLOWED, // 시도 가능
+        LOCKED, // 계정 잠금
+        RATE_LIMITED // 시도 수 초과
+    }
+}
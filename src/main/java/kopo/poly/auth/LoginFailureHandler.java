@@ -0,0 +1,121 @@
+package kopo.poly.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kopo.poly.controller.response.CommonResponse;
+import kopo.poly.dto.MsgDTO;
+import kopo.poly.util.CmmUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.ForwardAuthenticationFailureHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 로그인 실패 처리
+ * - 비밀번호 해시 작업이 밀려 거절된 경우 : 503(잠시 후 다시 시도) 응답
+ * - 로그인 실패 횟수 초과로 잠긴 계정 : 429 응답(Retry-After : 잠금 해제까지 남은 시간)
+ * - 그 외(아이디, 비밀번호 불일치 등) : /login/v1/loginFail 로 이동
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LoginFailureHandler implements AuthenticationFailureHandler {
+
+    // 로그인 아이디 파라미터 이름(SecurityConfig 로그인 설정과 같음)
+    public static final String USERNAME_PARAMETER = "userId";
+
+    private final AuthenticationFailureHandler forwardHandler = new ForwardAuthenticationFailureHandler("/login/v1/loginFail");
+
+    private final ObjectMapper objectMapper;
+
+    // 잠금 해제까지 남은 시간 조회
+    private final LoginAttemptStore loginAttemptStore;
+
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
+                                        AuthenticationException exception) throws IOException, ServletException {
+
+        if (exception instanceof LockedException) {
+            log.info("onAuthenticationFailure : {}", exception.getMessage());
+
+            // 로그인 실패 횟수 초과로 잠긴 계정(429)
+            writeError(response, HttpStatus.TOO_MANY_REQUESTS, lockRemainingSeconds(request),
+                    "로그인 실패 횟수가 많아 계정이 잠겼습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        if (!isHashingRejected(exception)) {
+            forwardHandler.onAuthenticationFailure(request, response, exception);
+            return;
+        }
+
+        log.info("onAuthenticationFailure : {}", exception.getMessage());
+
+        // 비밀번호 해시 작업 거절 응답(503)
+        writeError(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    /**
+     * 로그인 거절 응답(JSON)
+     *
+     * @param status            응답 상태 코드(429, 503 등)
+     * @param retryAfterSeconds 다시 시도할 수 있을 때까지 남은 시간(Retry-After 헤더)
+     * @param msg               결과 메시지
+     */
+    public void writeError(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String msg)
+            throws IOException {
+
+        MsgDTO dto = MsgDTO.builder().result(0).msg(msg).build();
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        objectMapper.writeValue(response.getWriter(), CommonResponse.of(status, status.series().name(), dto));
+    }
+
+    /**
+     * 잠금 해제까지 남은 시간(초, 올림), 저장소 오류 등으로 알 수 없으면 1초
+     */
+    private long lockRemainingSeconds(HttpServletRequest request) {
+
+        String userId = CmmUtil.nvl(request.getParameter(USERNAME_PARAMETER)).trim();
+        long millis = 0;
+
+        try {
+            millis = loginAttemptStore.lockRemainingMillis(userId);
+
+        } catch (RuntimeException e) {
+            log.warn("login attempt store error : {}", e.toString());
+        }
+
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    /**
+     * 예외 또는 원인 예외가 PasswordHashingRejectedException인지 확인
+     * - 존재하지 않는 아이디로 로그인한 경우 InternalAuthenticationServiceException에 포함되어 전달됨
+     */
+    private static boolean isHashingRejected(Throwable e) {
+
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof PasswordHashingRejectedException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
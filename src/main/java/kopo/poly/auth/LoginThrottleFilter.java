@@ -0,0 +1,81 @@
+package kopo.poly.auth;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kopo.poly.util.CmmUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 로그인 시도 제한 필터(UsernamePasswordAuthenticationFilter 앞에서 실행)
+ * <p>
+ * 아이디, IP별 로그인 시도 수가 초과되었거나 잠긴 계정이면 DB 조회, 비밀번호 해시 없이 바로 429 응답함
+ * - 비밀번호 무작위 대입(Credential Stuffing) 요청이 BCrypt CPU 사용, DB 조회로 이어지지 않도록 함
+ * - 저장소(Redis) 오류 시에는 로그인을 막지 않음(계정 잠금은 AuthInfo.isAccountNonLocked로 한 번 더 확인함)
+ * - IP는 request.getRemoteAddr() 사용(프록시 뒤에서는 server.forward-headers-strategy 설정 필요)
+ */
+@Slf4j
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    private final LoginAttemptStore loginAttemptStore;
+
+    private final LoginFailureHandler loginFailureHandler;
+
+    // 로그인 처리 URL
+    private final String loginProcessingUrl;
+
+    // 로그인 아이디 파라미터 이름
+    private final String usernameParameter;
+
+    public LoginThrottleFilter(LoginAttemptStore loginAttemptStore, LoginFailureHandler loginFailureHandler,
+                               String loginProcessingUrl, String usernameParameter) {
+        this.loginAttemptStore = loginAttemptStore;
+        this.loginFailureHandler = loginFailureHandler;
+        this.loginProcessingUrl = loginProcessingUrl;
+        this.usernameParameter = usernameParameter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !loginProcessingUrl.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String userId = CmmUtil.nvl(request.getParameter(usernameParameter)).trim();
+        String ip = request.getRemoteAddr();
+
+        LoginAttemptStore.Decision decision;
+
+        try {
+            decision = loginAttemptStore.tryAcquire(userId, ip);
+
+        } catch (RuntimeException e) {
+            log.warn("login throttle store error : {}", e.toString());
+            decision = LoginAttemptStore.Decision.ALLOWED;
+        }
+
+        if (decision.isAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.info("rejected userId : {}, ip : {}, status : {}, retryAfter : {}ms",
+                userId, ip, decision.status(), decision.retryAfterMillis());
+
+        String msg = decision.status() == LoginAttemptStore.Status.LOCKED
+                ? "로그인 실패 횟수가 많아 계정이 잠겼습니다. 잠시 후 다시 시도해주세요."
+                : "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+        loginFailureHandler.writeError(response, HttpStatus.TOO_MANY_REQUESTS,
+                Math.max(1, (decision.retryAfterMillis() + 999) / 1000), msg);
+    }
+}
@@ -0,0 +1,20 @@
+package kopo.poly.auth;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 제한 정책
+ *
+ * @param window             로그인 시도 수를 세는 기간(최근 window 동안의 시도 수)
+ * @param maxAttemptsPerUser 아이디별 window 동안 최대 로그인 시도 수
+ * @param maxAttemptsPerIp   IP별 window 동안 최대 로그인 시도 수
+ * @param failureWindow      로그인 실패 수를 세는 기간
+ * @param maxFailures        failureWindow 동안 이 횟수만큼 실패하면 계정을 잠금
+ * @param lockDuration       계정 잠금 시간
+ */
+@Builder
+public record LoginThrottlePolicy(Duration window, int maxAttemptsPerUser, int maxAttemptsPerIp,
+                                  Duration failureWindow, int maxFailures, Duration lockDuration) {
+}
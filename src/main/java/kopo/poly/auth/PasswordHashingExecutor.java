@@ -0,0 +1,154 @@
+package kopo.poly.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시(BCrypt 등) 전용 스레드 풀
+ * <p>
+ * 해시 계산은 CPU를 많이 사용하므로 Tomcat 요청 스레드에서 직접 실행하면
+ * 로그인이 몰릴 때 다른 요청까지 처리하지 못하게 됨
+ * - 동시에 실행되는 해시 작업 수를 CPU 코어 수(parallelism)로 제한함
+ * - 대기열(queue-capacity)이 가득 차거나 max-wait 안에 처리되지 않으면 즉시 거절함(PasswordHashingRejectedException)
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private static final String THREAD_NAME_PREFIX = "pwd-hash-";
+
+    private final ThreadPoolExecutor executor;
+
+    private final long maxWaitNanos;
+
+    // 대기 시간(작업 요청 ~ 실행 시작) 통계
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder waitTotalNanos = new LongAdder();
+    private final LongAccumulator waitMaxNanos = new LongAccumulator(Math::max, 0);
+
+    // 거절된 작업 수
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public PasswordHashingExecutor(@Value("${security.password.executor.parallelism:0}") int parallelism,
+                                   @Value("${security.password.executor.queue-capacity:100}") int queueCapacity,
+                                   @Value("${security.password.executor.max-wait:2s}") Duration maxWait) {
+
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.executor.prestartAllCoreThreads();
+        this.maxWaitNanos = maxWait.toNanos();
+
+        log.info("parallelism : {}, queueCapacity : {}, maxWait : {}", threads, queueCapacity, maxWait);
+    }
+
+    /**
+     * 해시 작업을 전용 스레드 풀에서 실행하고 결과를 기다림
+     *
+     * @param task 해시 작업
+     * @return 해시 작업 결과
+     * @throws PasswordHashingRejectedException 대기열이 가득 찼거나 max-wait 안에 처리되지 않은 경우
+     */
+    public <T> T execute(Supplier<T> task) {
+
+        // 해시 스레드에서 다시 호출된 경우 바로 실행(스레드 풀 교착 방지)
+        if (Thread.currentThread().getName().startsWith(THREAD_NAME_PREFIX)) {
+            return task.get();
+        }
+
+        long submitted = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                recordWait(System.nanoTime() - submitted);
+                return task.get();
+            });
+
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new PasswordHashingRejectedException("password hashing queue is full", e);
+        }
+
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.increment();
+            throw new PasswordHashingRejectedException("password hashing timed out", e);
+
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("password hashing interrupted", e);
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void recordWait(long nanos) {
+        waitCount.increment();
+        waitTotalNanos.add(nanos);
+        waitMaxNanos.accumulate(nanos);
+    }
+
+    // 대기열에 쌓인 작업 수
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    // 실행 중인 작업 수
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getWaitCount() {
+        return waitCount.sum();
+    }
+
+    public long getWaitTotalNanos() {
+        return waitTotalNanos.sum();
+    }
+
+    public long getWaitMaxNanos() {
+        return waitMaxNanos.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,18 @@
+package kopo.poly.auth;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해시 작업이 밀려 처리할 수 없는 경우 발생하는 예외
+ * - 로그인 처리 중 발생하면 LoginFailureHandler에서 503 응답으로 변환함
+ */
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+
+    public PasswordHashingRejectedException(String msg) {
+        super(msg);
+    }
+
+    public PasswordHashingRejectedException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
@@ -0,0 +1,185 @@
+package kopo.poly.auth;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis 로그인 시도 저장소(모든 서버가 함께 사용)
+ * <p>
+ * 시도, 실패 기록은 Sorted Set(점수 : 시도 시간 ms)에 저장하고 window가 지난 기록은 지움(Sliding Window)
+ * - 확인과 기록을 Lua 스크립트로 한 번에 실행하므로 여러 서버에서 동시에 시도해도 정확함
+ * - 시간은 서버(Clock) 기준으로 전달함(테스트에서 시간 변경 가능)
+ * - 아이디별 Key는 아이디를 Hash Tag({아이디})로 사용하여 Redis Cluster에서 아이디마다 다른 slot에 나뉘어 저장되고,
+ *   한 아이디의 Key(시도, 실패, 잠금)는 같은 slot이므로 하나의 스크립트로 실행할 수 있음
+ * - IP별 시도 수는 Key 1개만 사용하는 별도 스크립트로 확인함(로그인 시도 1번에 Redis 왕복 2번)
+ * <p>
+ * Key
+ * - login:{아이디}:attempt, login:ip:IP : 로그인 시도 시간
+ * - login:{아이디}:failure : 로그인 실패 시간
+ * - login:{아이디}:lock : 계정 잠금(만료 시간 = 잠금 해제 시간)
+ */
+public class RedisLoginAttemptStore implements LoginAttemptStore {
+
+    private static final String KEY_PREFIX = "login:";
+
+    // 잠금 확인 → 아이디 시도 수 확인 → 시도 기록
+    // 반환 : {0, 0} 허용, {1, 남은 잠금 시간} 잠금, {2, 다시 시도 가능까지 남은 시간} 시도 수 초과
+    private static final RedisScript<List> TRY_ACQUIRE_USER = new DefaultRedisScript<>("""
+            local lockTtl = redis.call('PTTL', KEYS[1])
+            if lockTtl > 0 then
+                return {1, lockTtl}
+            end
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now - window)
+            if redis.call('ZCARD', KEYS[2]) >= tonumber(ARGV[3]) then
+                local oldest = redis.call('ZRANGE', KEYS[2], 0, 0, 'WITHSCORES')
+                return {2, tonumber(oldest[2]) + window - now}
+            end
+            redis.call('ZADD', KEYS[2], now, ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], window)
+            return {0, 0}
+            """, List.class);
+
+    // IP 시도 수 확인 → 시도 기록
+    // 반환 : 0 허용, 그 외 다시 시도 가능까지 남은 시간
+    private static final RedisScript<Long> TRY_ACQUIRE_IP = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+            if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then
+                local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+                return tonumber(oldest[2]) + window - now
+            end
+            redis.call('ZADD', KEYS[1], now, ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], window)
+            return 0
+            """, Long.class);
+
+    // 실패 기록 → 실패 수가 초과되면 잠금
+    // 반환 : 1 잠금, 0 잠금 안 됨
+    private static final RedisScript<Long> RECORD_FAILURE = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+            redis.call('ZADD', KEYS[1], now, ARGV[5])
+            redis.call('PEXPIRE', KEYS[1], window)
+            if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then
+                redis.call('SET', KEYS[2], '1', 'PX', ARGV[4])
+                redis.call('DEL', KEYS[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final LoginThrottlePolicy policy;
+
+    private final Clock clock;
+
+    public RedisLoginAttemptStore(StringRedisTemplate stringRedisTemplate, LoginThrottlePolicy policy, Clock clock) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.policy = policy;
+        this.clock = clock;
+    }
+
+    @Override
+    public Decision tryAcquire(String userId, String ip) {
+
+        long now = clock.millis();
+        String window = String.valueOf(policy.window().toMillis());
+        String member = member(now);
+        String attemptKey = attemptKey(userId);
+
+        List<?> res = stringRedisTemplate.execute(TRY_ACQUIRE_USER,
+                List.of(lockKey(userId), attemptKey),
+                String.valueOf(now), window, String.valueOf(policy.maxAttemptsPerUser()), member);
+
+        long code = ((Number) res.get(0)).longValue();
+        long millis = ((Number) res.get(1)).longValue();
+
+        if (code == 1) {
+            return new Decision(Status.LOCKED, millis);
+        }
+
+        if (code == 2) {
+            return new Decision(Status.RATE_LIMITED, millis);
+        }
+
+        Long ipWait = stringRedisTemplate.execute(TRY_ACQUIRE_IP,
+                List.of(KEY_PREFIX + "ip:" + ip),
+                String.valueOf(now), window, String.valueOf(policy.maxAttemptsPerIp()), member);
+
+        if (ipWait != null && ipWait > 0) {
+            // 거절된 시도는 아이디 시도 수에 포함하지 않음
+            stringRedisTemplate.opsForZSet().remove(attemptKey, member);
+
+            return new Decision(Status.RATE_LIMITED, ipWait);
+        }
+
+        return Decision.ALLOWED;
+    }
+
+    @Override
+    public boolean recordFailure(String userId) {
+
+        long now = clock.millis();
+
+        Long res = stringRedisTemplate.execute(RECORD_FAILURE,
+                List.of(failureKey(userId), lockKey(userId)),
+                String.valueOf(now),
+                String.valueOf(policy.failureWindow().toMillis()),
+                String.valueOf(policy.maxFailures()),
+                String.valueOf(policy.lockDuration().toMillis()),
+                member(now));
+
+        return res != null && res == 1;
+    }
+
+    @Override
+    public void recordSuccess(String userId) {
+        stringRedisTemplate.delete(failureKey(userId));
+    }
+
+    @Override
+    public long lockRemainingMillis(String userId) {
+
+        // PTTL : 남은 시간(ms), Key가 없으면 -2
+        Long ttl = stringRedisTemplate.getExpire(lockKey(userId), TimeUnit.MILLISECONDS);
+
+        return ttl == null || ttl < 0 ? 0 : ttl;
+    }
+
+    private static String attemptKey(String userId) {
+        return userKeyPrefix(userId) + "attempt";
+    }
+
+    private static String lockKey(String userId) {
+        return userKeyPrefix(userId) + "lock";
+    }
+
+    private static String failureKey(String userId) {
+        return userKeyPrefix(userId) + "failure";
+    }
+
+    /**
+     * 아이디별 Key 앞부분(login:{아이디}:)
+     */
+    private static String userKeyPrefix(String userId) {
+        return KEY_PREFIX + "{" + userId + "}:";
+    }
+
+    /**
+     * Sorted Set 값(같은 시간에 여러 번 시도해도 모두 기록되도록 임의 값을 붙임)
+     */
+    private static String member(long now) {
+        return now + "-" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -0,0 +1,159 @@
+package kopo.poly.auth;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 권한 목록(변경 불가)
+ * <p>
+ * AuthorityRegistry의 권한 번호를 비트로 저장함
+ * - 권한 확인(contains)은 비트 연산으로 처리하여 객체를 만들지 않음
+ * - 꺼낸 권한은 AuthorityRegistry의 공유 객체임
+ * - 순서는 권한 번호 순서(UserRole 순서, 이후 DB 권한 등록 순서)
+ */
+public final class RoleSet extends AbstractSet<GrantedAuthority> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final RoleSet EMPTY = new RoleSet(0L);
+
+    private final long mask;
+
+    private RoleSet(long mask) {
+        this.mask = mask;
+    }
+
+    static RoleSet of(long mask) {
+        return mask == 0 ? EMPTY : new RoleSet(mask);
+    }
+
+    /**
+     * 권한 목록을 RoleSet으로 변환하기(RoleSet이면 그대로 반환함)
+     */
+    public static RoleSet copyOf(Collection<? extends GrantedAuthority> authorities) {
+
+        if (authorities instanceof RoleSet roleSet) {
+            return roleSet;
+        }
+
+        if (authorities == null || authorities.isEmpty()) {
+            return EMPTY;
+        }
+
+        long mask = 0;
+
+        for (GrantedAuthority authority : authorities) {
+            mask |= 1L << AuthorityRegistry.register(authority.getAuthority());
+        }
+
+        return of(mask);
+    }
+
+    /**
+     * 권한 보유 여부
+     */
+    public boolean hasAuthority(String authority) {
+
+        int idx = AuthorityRegistry.indexOf(authority);
+
+        return idx >= 0 && (mask & (1L << idx)) != 0;
+    }
+
+    public boolean hasRole(UserRole role) {
+        return hasAuthority(role.getValue());
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof GrantedAuthority authority && hasAuthority(authority.getAuthority());
+    }
+
+    @Override
+    public int size() {
+        return Long.bitCount(mask);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return mask == 0;
+    }
+
+    @Override
+    public Iterator<GrantedAuthority> iterator() {
+        return new Iterator<>() {
+
+            private long remaining = mask;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public GrantedAuthority next() {
+
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+
+                int idx = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+
+                return AuthorityRegistry.get(idx);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (o instanceof RoleSet other) {
+            return mask == other.mask;
+        }
+
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * 권한 번호는 서버마다 다를 수 있으므로 권한 이름으로 직렬화함
+     */
+    @Serial
+    private Object writeReplace() {
+
+        String[] names = new String[size()];
+        int i = 0;
+
+        for (GrantedAuthority authority : this) {
+            names[i++] = authority.getAuthority();
+        }
+
+        return new SerializedForm(names);
+    }
+
+    private record SerializedForm(String[] names) implements Serializable {
+
+        @Serial
+        private Object readResolve() {
+
+            long mask = 0;
+
+            for (String name : names) {
+                mask |= 1L << AuthorityRegistry.register(name);
+            }
+
+            return RoleSet.of(mask);
+        }
+    }
+}
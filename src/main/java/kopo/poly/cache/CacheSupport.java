@@ -0,0 +1,57 @@
+package kopo.poly.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 캐시 조회 공통 기능
+ */
+final class CacheSupport {
+
+    private CacheSupport() {
+    }
+
+    /**
+     * 캐시에서 값을 가져오고, 없으면 loader로 조회하여 저장함
+     * <p>
+     * Cache.get(key, loader)는 loader(DB 조회 등)가 끝날 때까지 내부 잠금(synchronized)을 잡고 있어
+     * 가상 스레드(Virtual Thread) 실행 시 캐리어 스레드가 고정(pinning)되므로 다음과 같이 처리함
+     * - 처음 요청한 스레드가 빈 CompletableFuture를 먼저 등록하고, 잠금 없이 직접 loader를 실행함
+     * - 같은 key로 동시에 들어온 요청은 등록된 CompletableFuture의 결과를 기다림(loader는 1번만 실행됨)
+     * - loader에서 예외가 발생하면 캐시에서 제거되고, 기다리던 요청에도 같은 예외가 전달됨
+     */
+    static <V> V getOrLoad(AsyncCache<String, V> cache, String key, Function<String, ? extends V> loader) {
+
+        CompletableFuture<V> future = cache.getIfPresent(key); // 적중(hit), 실패(miss) 통계 기록
+
+        if (future == null) {
+            CompletableFuture<V> newFuture = new CompletableFuture<>();
+            future = cache.asMap().putIfAbsent(key, newFuture);
+
+            if (future == null) {
+                try {
+                    V value = loader.apply(key);
+                    newFuture.complete(value);
+                    return value;
+
+                } catch (RuntimeException | Error e) {
+                    newFuture.completeExceptionally(e); // 실패한 값은 캐시에서 자동 제거됨
+                    throw e;
+                }
+            }
+        }
+
+        try {
+            return future.join();
+
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re; // UsernameNotFoundException 등 원래 예외 전달
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package kopo.poly.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 로그인(loadUserByUsername) 결과를 보관하는 로컬 캐시
+ * - 짧은 시간에 로그인이 몰려도 같은 아이디는 DB 조회 1번으로 처리함
+ * - 최대 크기를 넘으면 Caffeine(W-TinyLFU) 정책으로 자주 사용되지 않는 사용자부터 제거됨
+ * - 비밀번호, 권한이 바뀌는 곳에서는 반드시 evict()를 호출해야 함
+ * - 서버(노드)별 메모리 캐시이므로 evict()는 UserInfoCache와 같은 Redis Pub/Sub 채널로 다른 서버에도 알림
+ *   (다른 서버에서 이전 비밀번호로 로그인되지 않도록 함, 알림을 받지 못한 경우에도 ttl 이후에는 다시 조회함)
+ */
+@Slf4j
+@Component
+public class UserDetailsCache implements MessageListener {
+
+    // 자신이 보낸 삭제 알림을 구분하기 위한 서버(노드) 아이디
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final AsyncCache<String, UserDetails> cache;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public UserDetailsCache(StringRedisTemplate stringRedisTemplate,
+                            RedisMessageListenerContainer redisMessageListenerContainer,
+                            @Value("${user.cache.details.max-size:10000}") long maxSize,
+                            @Value("${user.cache.details.ttl:5m}") Duration ttl) {
+
+        log.info("maxSize : {}, ttl : {}", maxSize, ttl);
+
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize) // 저장 가능한 최대 사용자 수
+                .expireAfterWrite(ttl) // 저장 후 ttl이 지나면 DB에서 다시 조회함
+                .recordStats() // 적중(hit), 실패(miss), 제거(eviction) 횟수 기록
+                .buildAsync();
+
+        // 다른 서버에서 보낸 캐시 삭제 알림 수신(UserInfoCache 삭제 알림도 함께 처리됨)
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(UserInfoCache.INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 캐시에서 사용자 정보를 가져오고, 없으면 loader로 조회하여 저장함
+     * - 같은 아이디로 동시에 요청이 들어와도 loader는 1번만 실행됨
+     * - loader에서 예외(UsernameNotFoundException 등)가 발생하면 캐시에 저장되지 않음
+     *
+     * @param userId 사용자 아이디
+     * @param loader 캐시에 없을 때 실행할 조회 함수
+     */
+    public UserDetails get(String userId, Function<String, ? extends UserDetails> loader) {
+        return CacheSupport.getOrLoad(cache, userId, loader);
+    }
+
+    /**
+     * 사용자 정보 캐시 삭제(회원가입, 비밀번호 변경, 권한 변경 시 호출, 다른 서버에도 알림)
+     */
+    public void evict(String userId) {
+
+        cache.synchronous().invalidate(userId);
+
+        try {
+            stringRedisTemplate.convertAndSend(UserInfoCache.INVALIDATE_CHANNEL, nodeId + "|" + userId);
+
+        } catch (RuntimeException e) {
+            log.warn("UserDetailsCache evict error : {}", e.toString());
+        }
+    }
+
+    /**
+     * 다른 서버에서 보낸 캐시 삭제 알림 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.indexOf('|');
+
+        if (idx > 0 && !body.substring(0, idx).equals(nodeId)) { // 자신이 보낸 알림은 이미 처리되었음
+            cache.synchronous().invalidate(body.substring(idx + 1));
+        }
+    }
+
+    /**
+     * 전체 캐시 삭제
+     */
+    public void evictAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * 캐시 통계(hit, miss, eviction 횟수)
+     */
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    /**
+     * 현재 저장된 사용자 수(근사값)
+     */
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+}
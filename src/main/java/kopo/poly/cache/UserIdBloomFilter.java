@@ -0,0 +1,341 @@
+package kopo.poly.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisStringCommands.BitOperation;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 가입된 회원아이디 Bloom Filter
+ * - mightContain()이 false이면 "절대 가입되지 않은 아이디"이므로 DB 조회가 필요 없음
+ * - true이면 가입되었을 "가능성"이 있으므로 DB에서 한 번 더 확인해야 함(false-positive-rate 만큼 오탐 발생)
+ * <p>
+ * 저장 방식(user.bloom.mode)
+ * - local : 서버(노드)별 메모리에 저장, 다른 서버에서 가입한 아이디는 Redis Pub/Sub으로 전달받음
+ * - redis : Redis Bitmap(SETBIT/GETBIT)에 저장하여 모든 서버가 함께 사용함
+ */
+@Slf4j
+@Component
+public class UserIdBloomFilter implements MessageListener {
+
+    // Redis 모드에서 사용할 Bitmap Key
+    private static final String REDIS_KEY = "user:id:bloom";
+
+    // local 모드에서 다른 서버에 가입 아이디를 전달할 채널
+    private static final String ADD_CHANNEL = "user:id:bloom:add";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final boolean redisMode;
+
+    // 전체 비트 수(m), 해시 함수 수(k)
+    private final long bitSize;
+    private final int hashCount;
+
+    private final long expectedInsertions;
+
+    private final double fpp;
+
+    // local 모드 비트 저장소(재생성 시 통째로 교체함)
+    private volatile AtomicLongArray bits;
+
+    // local 모드 재생성 중인 비트 저장소(재생성 중에 가입된 아이디가 빠지지 않도록 함께 기록함)
+    private volatile AtomicLongArray building;
+
+    // 최초 생성이 끝나기 전에는 모든 아이디를 "가능성 있음"으로 처리함
+    private volatile boolean ready = false;
+
+    public UserIdBloomFilter(StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer,
+                             @Value("${user.bloom.mode:local}") String mode,
+                             @Value("${user.bloom.expected-insertions:1000000}") long expectedInsertions,
+                             @Value("${user.bloom.false-positive-rate:0.01}") double fpp) {
+
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMode = "redis".equalsIgnoreCase(mode);
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+
+        // 최적 비트 수 : m = -n * ln(p) / (ln2)^2, 최적 해시 수 : k = m / n * ln2
+        this.bitSize = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+
+        log.info("mode : {}, bitSize : {}, hashCount : {}", mode, bitSize, hashCount);
+
+        if (!redisMode) {
+            this.bits = new AtomicLongArray(wordCount());
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(ADD_CHANNEL));
+        }
+    }
+
+    /**
+     * 가입되었을 가능성이 있는지 확인
+     *
+     * @return false : 절대 가입되지 않은 아이디, true : 가입되었을 가능성 있음(DB 확인 필요)
+     */
+    public boolean mightContain(String userId) {
+
+        if (!ready) {
+            return true;
+        }
+
+        long[] indexes = indexes(userId);
+
+        if (redisMode) {
+            return mightContainRedis(indexes);
+        }
+
+        AtomicLongArray current = bits;
+
+        for (long idx : indexes) {
+            if ((current.get((int) (idx >>> 6)) & (1L << idx)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 가입된 아이디 추가(회원가입 성공 시 호출)
+     */
+    public void put(String userId) {
+
+        long[] indexes = indexes(userId);
+
+        // redis 모드는 Redis Bitmap에 바로 기록함(재생성 결과는 BITOP OR로 합치므로 재생성 중에도 유지됨)
+        if (!redisMode) {
+            setLocalBits(indexes);
+        }
+
+        try {
+            if (redisMode) {
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection conn = (StringRedisConnection) connection;
+
+                    for (long idx : indexes) {
+                        conn.setBit(REDIS_KEY, idx, true);
+                    }
+                    return null;
+                });
+
+            } else {
+                stringRedisTemplate.convertAndSend(ADD_CHANNEL, nodeId + "|" + userId);
+            }
+
+        } catch (RuntimeException e) {
+            if (redisMode) {
+                // 반영 실패 시 "가입되지 않음"으로 잘못 응답할 수 있으므로 재생성 전까지 DB로 확인함
+                ready = false;
+            }
+            log.warn("UserIdBloomFilter put error : {}", e.toString());
+        }
+    }
+
+    /**
+     * 전체 회원아이디로 Bloom Filter 다시 만들기
+     *
+     * @param userIds 전체 회원아이디(DB에서 스트리밍으로 조회한 값)
+     * @return 등록된 아이디 수
+     */
+    public long rebuild(Iterator<String> userIds) {
+
+        log.info("rebuild Start!");
+
+        AtomicLongArray newBits = new AtomicLongArray(wordCount());
+        long count = 0;
+
+        building = newBits;
+
+        try {
+            while (userIds.hasNext()) {
+                setBits(newBits, indexes(userIds.next()));
+                count++;
+            }
+
+            if (redisMode) {
+                writeRedis(newBits);
+
+            } else {
+                bits = newBits;
+            }
+
+        } finally {
+            building = null;
+        }
+
+        if (count > expectedInsertions) {
+            log.warn("UserIdBloomFilter 등록 아이디 수({})가 expected-insertions({})보다 많아 오탐률이 {}보다 높아집니다.",
+                    count, expectedInsertions, fpp);
+        }
+
+        ready = true;
+
+        log.info("rebuild End! count : {}", count);
+
+        return count;
+    }
+
+    /**
+     * 다른 서버에서 가입된 아이디 반영(local 모드)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.indexOf('|');
+
+        if (idx > 0 && !body.substring(0, idx).equals(nodeId)) {
+            setLocalBits(indexes(body.substring(idx + 1)));
+        }
+    }
+
+    /**
+     * local 모드 비트 기록
+     * - 재생성 중이면 재생성 비트에도 기록함(교체 시 재생성 중에 가입된 아이디가 빠지지 않도록 함)
+     * - building을 먼저 기록하고 bits를 나중에 읽으므로 교체 전후 어느 시점이든 새 비트에 반영됨
+     */
+    private void setLocalBits(long[] indexes) {
+
+        AtomicLongArray current = building;
+
+        if (current != null) {
+            setBits(current, indexes);
+        }
+
+        setBits(bits, indexes);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private boolean mightContainRedis(long[] indexes) {
+
+        try {
+            List<Object> rList = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+
+                for (long idx : indexes) {
+                    conn.getBit(REDIS_KEY, idx);
+                }
+                return null;
+            });
+
+            for (Object bit : rList) {
+                if (!Boolean.TRUE.equals(bit)) {
+                    return false;
+                }
+            }
+
+        } catch (RuntimeException e) {
+            log.warn("UserIdBloomFilter get error : {}", e.toString());
+        }
+
+        return true;
+    }
+
+    /**
+     * 새로 만든 비트를 임시 Key에 저장한 뒤 BITOP OR로 기존 Key에 합침
+     * - 교체(RENAME)하면 재생성 중에 다른 서버가 기록(SETBIT)한 아이디가 사라지므로 합침
+     * - BITOP은 하나의 명령으로 실행되므로 다른 서버의 SETBIT와 겹쳐도 빠지는 비트가 없음
+     * - 기존 비트는 지워지지 않음(DB에서 직접 삭제한 회원은 오탐으로만 남음, 초기화가 필요하면 Key 삭제 후 재생성)
+     * - Redis Bitmap은 바이트의 상위 비트부터 0번 비트로 사용함
+     */
+    private void writeRedis(AtomicLongArray newBits) {
+
+        byte[] bytes = new byte[(int) ((bitSize + 7) >>> 3)];
+
+        for (long idx = 0; idx < bitSize; idx++) {
+            if ((newBits.get((int) (idx >>> 6)) & (1L << idx)) != 0) {
+                bytes[(int) (idx >>> 3)] |= (byte) (0x80 >>> (idx & 7));
+            }
+        }
+
+        String tmpKey = REDIS_KEY + ":" + nodeId;
+
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            byte[] rawTmpKey = StringRedisSerializer.UTF_8.serialize(tmpKey);
+            byte[] rawKey = StringRedisSerializer.UTF_8.serialize(REDIS_KEY);
+
+            // 서버가 중간에 종료되어도 임시 Key가 남지 않도록 만료 시간 설정
+            connection.stringCommands().set(rawTmpKey, bytes, Expiration.seconds(60), SetOption.upsert());
+            connection.stringCommands().bitOp(BitOperation.OR, rawKey, rawKey, rawTmpKey);
+            connection.keyCommands().del(rawTmpKey);
+            return null;
+        });
+    }
+
+    private static void setBits(AtomicLongArray target, long[] indexes) {
+
+        for (long idx : indexes) {
+            int word = (int) (idx >>> 6);
+            long mask = 1L << idx;
+            long prev;
+
+            do {
+                prev = target.get(word);
+            } while ((prev & mask) == 0 && !target.compareAndSet(word, prev, prev | mask));
+        }
+    }
+
+    /**
+     * 아이디의 비트 위치 k개 계산(double hashing : h1 + i * h2)
+     */
+    private long[] indexes(String userId) {
+
+        long h1 = hash(userId, 0x9E3779B97F4A7C15L);
+        long h2 = hash(userId, 0xC2B2AE3D27D4EB4FL) | 1; // 0이 되지 않도록 홀수로 만듦
+
+        long[] res = new long[hashCount];
+
+        for (int i = 0; i < hashCount; i++) {
+            res[i] = Math.floorMod(h1 + i * h2, bitSize);
+        }
+
+        return res;
+    }
+
+    /**
+     * FNV-1a 64bit 해시 + SplitMix64 마무리 연산
+     */
+    private static long hash(String str, long seed) {
+
+        long h = 0xCBF29CE484222325L ^ seed;
+
+        for (byte b : str.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001B3L;
+        }
+
+        h ^= (h >>> 33);
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= (h >>> 33);
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= (h >>> 33);
+
+        return h;
+    }
+
+    private int wordCount() {
+        return (int) ((bitSize + 63) >>> 6);
+    }
+}
@@ -0,0 +1,188 @@
+package kopo.poly.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import kopo.poly.dto.UserInfoDTO;
+import kopo.poly.util.EncryptUtil;
+import kopo.poly.util.FieldEnvelopeCipher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 회원정보(UserInfoDTO) 2단계 캐시
+ * - 1단계(L1) : 서버(노드)별 메모리 캐시
+ * - 2단계(L2) : 모든 서버가 함께 사용하는 Redis 캐시(이메일은 암호화하여 저장하고, 조회 시 복호화함)
+ * - 회원정보가 변경되면 Redis Pub/Sub으로 다른 서버의 L1 캐시도 삭제함
+ */
+@Slf4j
+@Component
+public class UserInfoCache implements MessageListener {
+
+    // Redis에 저장되는 회원정보 Key 접두어
+    private static final String KEY_PREFIX = "user:info:";
+
+    // 캐시 삭제 알림 채널(UserDetailsCache도 함께 사용함)
+    static final String INVALIDATE_CHANNEL = "user:info:invalidate";
+
+    // 자신이 보낸 삭제 알림을 구분하기 위한 서버(노드) 아이디
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final AsyncCache<String, UserInfoDTO> localCache;
+
+    private final RedisTemplate<String, UserInfoDTO> userInfoRedisTemplate;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Duration redisTtl;
+
+    // L2(Redis) 통계
+    private final LongAdder redisHitCount = new LongAdder();
+    private final LongAdder redisMissCount = new LongAdder();
+    private final LongAdder redisErrorCount = new LongAdder();
+
+    public UserInfoCache(RedisTemplate<String, UserInfoDTO> userInfoRedisTemplate,
+                         StringRedisTemplate stringRedisTemplate,
+                         RedisMessageListenerContainer redisMessageListenerContainer,
+                         @Value("${user.cache.info.local-max-size:10000}") long localMaxSize,
+                         @Value("${user.cache.info.local-ttl:1m}") Duration localTtl,
+                         @Value("${user.cache.info.redis-ttl:30m}") Duration redisTtl) {
+
+        this.userInfoRedisTemplate = userInfoRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisTtl = redisTtl;
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl) // 삭제 알림을 받지 못한 경우에도 localTtl 이후에는 다시 조회함
+                .recordStats()
+                .buildAsync();
+
+        // 다른 서버에서 보낸 캐시 삭제 알림 수신
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 회원정보 조회(L1 → L2 → loader 순서로 조회하고, 조회된 값은 상위 캐시에 저장함)
+     *
+     * @param userId 회원아이디
+     * @param loader 캐시에 없을 때 DB에서 조회하는 함수
+     */
+    public UserInfoDTO get(String userId, Function<String, UserInfoDTO> loader) {
+        return CacheSupport.getOrLoad(localCache, userId, id -> getFromRedis(id, loader));
+    }
+
+    /**
+     * 회원정보 캐시 삭제(L1, L2 모두 삭제하고 다른 서버에도 알림)
+     */
+    public void evict(String userId) {
+
+        localCache.synchronous().invalidate(userId);
+
+        try {
+            userInfoRedisTemplate.delete(KEY_PREFIX + userId);
+            stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, nodeId + "|" + userId);
+
+        } catch (RuntimeException e) {
+            redisErrorCount.increment();
+            log.warn("UserInfoCache evict error : {}", e.toString());
+        }
+    }
+
+    /**
+     * 다른 서버에서 보낸 캐시 삭제 알림 처리(L1만 삭제)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.indexOf('|');
+
+        if (idx > 0 && !body.substring(0, idx).equals(nodeId)) { // 자신이 보낸 알림은 이미 처리되었음
+            localCache.synchronous().invalidate(body.substring(idx + 1));
+        }
+    }
+
+    private UserInfoDTO getFromRedis(String userId, Function<String, UserInfoDTO> loader) {
+
+        String key = KEY_PREFIX + userId;
+
+        try {
+            UserInfoDTO rDTO = userInfoRedisTemplate.opsForValue().get(key);
+
+            // 이메일이 암호화되지 않은 이전 형식 캐시는 사용하지 않고 DB 조회 후 다시 저장함
+            if (rDTO != null && (rDTO.email() == null || FieldEnvelopeCipher.isEnvelope(rDTO.email()))) {
+                redisHitCount.increment();
+                return decryptEmail(rDTO);
+            }
+
+            redisMissCount.increment();
+
+        } catch (RuntimeException | GeneralSecurityException e) {
+            // Redis 장애 시에도 DB 조회로 서비스는 계속되어야 함
+            redisErrorCount.increment();
+            log.warn("UserInfoCache get error : {}", e.toString());
+        }
+
+        UserInfoDTO rDTO = loader.apply(userId);
+
+        if (rDTO != null) {
+            try {
+                userInfoRedisTemplate.opsForValue().set(key, encryptEmail(rDTO), redisTtl);
+
+            } catch (RuntimeException | GeneralSecurityException e) {
+                redisErrorCount.increment();
+                log.warn("UserInfoCache set error : {}", e.toString());
+            }
+        }
+
+        return rDTO;
+    }
+
+    /**
+     * Redis 저장용 회원정보(이메일 암호화, 여러 서버가 함께 사용하는 Redis에는 평문 개인정보를 저장하지 않음)
+     */
+    private static UserInfoDTO encryptEmail(UserInfoDTO pDTO) throws GeneralSecurityException {
+        return pDTO.email() == null ? pDTO : pDTO.toBuilder().email(EncryptUtil.encField(pDTO.email())).build();
+    }
+
+    /**
+     * Redis에서 조회한 회원정보의 이메일 복호화(L1 메모리 캐시에는 복호화된 값을 저장함)
+     */
+    private static UserInfoDTO decryptEmail(UserInfoDTO pDTO) throws GeneralSecurityException {
+        return pDTO.email() == null ? pDTO : pDTO.toBuilder().email(EncryptUtil.decField(pDTO.email())).build();
+    }
+
+    /**
+     * L1(메모리) 캐시 통계
+     */
+    public CacheStats localStats() {
+        return localCache.synchronous().stats();
+    }
+
+    public long redisHitCount() {
+        return redisHitCount.sum();
+    }
+
+    public long redisMissCount() {
+        return redisMissCount.sum();
+    }
+
+    public long redisErrorCount() {
+        return redisErrorCount.sum();
+    }
+}
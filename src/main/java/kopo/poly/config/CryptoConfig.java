@@ -0,0 +1,64 @@
+package kopo.poly.config;
+
+import kopo.poly.util.EncryptUtil;
+import kopo.poly.util.FieldEnvelopeCipher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 컬럼(필드) 암호화 키 설정
+ * <p>
+ * crypto.field.keys 형식 : "버전:Base64키,버전:Base64키" (예 : 1:UG9seVRlY2huaWMxMjM0NQ==,2:...)
+ * - 키를 교체할 때는 새 버전 키를 추가하고 current-version을 변경한 뒤, 재암호화 작업을 실행함
+ * - 이전 버전 키는 재암호화 작업이 끝날 때까지 지우면 안 됨
+ * - 키 설정은 필수이며, 현재 버전 키로 기존 AES-128 CBC 키(소스에 포함된 키)는 사용할 수 없음
+ *   (기존 키로 암호화된 값은 이전 버전 키로 등록하여 복호화하고, 재암호화 작업으로 새 키로 변경함)
+ */
+@Slf4j
+@Configuration
+public class CryptoConfig {
+
+    @Value("${crypto.field.keys:}")
+    private String fieldKeys;
+
+    @Value("${crypto.field.current-version:1}")
+    private int currentVersion;
+
+    @Bean
+    public FieldEnvelopeCipher fieldEnvelopeCipher() {
+
+        log.info("fieldEnvelopeCipher Start!");
+
+        if (fieldKeys.isBlank()) {
+            // 소스에 포함된 키로 암호화하지 않도록 기본 키를 사용하지 않음
+            throw new IllegalStateException("crypto.field.keys is required");
+        }
+
+        Map<Integer, byte[]> keys = new HashMap<>();
+
+        for (String item : fieldKeys.split(",")) {
+            String[] versionKey = item.trim().split(":", 2);
+            keys.put(Integer.parseInt(versionKey[0].trim()), Base64.getDecoder().decode(versionKey[1].trim()));
+        }
+
+        if (keys.containsKey(currentVersion) && EncryptUtil.isLegacyKey(keys.get(currentVersion))) {
+            throw new IllegalStateException("crypto.field.keys current version must not use the legacy AES-CBC key : "
+                    + currentVersion);
+        }
+
+        FieldEnvelopeCipher cipher = new FieldEnvelopeCipher(keys, currentVersion);
+
+        // UserInfoDTO 등 static 메서드에서도 같은 키를 사용하도록 등록
+        EncryptUtil.setEnvelopeCipher(cipher);
+
+        log.info("field key current version : {}", cipher.getCurrentVersion());
+
+        return cipher;
+    }
+}
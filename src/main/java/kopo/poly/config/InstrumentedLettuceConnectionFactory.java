@@ -0,0 +1,101 @@
+package kopo.poly.config;
+
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 연결 획득 시간을 기록하는 LettuceConnectionFactory
+ * - getConnection() 실행 시간(공유 연결 생성, 풀에서 연결 가져오기 등)을 기록함
+ * - pooled 모드에서 명령 실행 시 풀에서 가져오는 연결은 Lettuce 내부에서 처리되므로 포함되지 않음
+ */
+public class InstrumentedLettuceConnectionFactory extends LettuceConnectionFactory {
+
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAccumulator acquireMaxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder acquireErrorCount = new LongAdder();
+
+    public InstrumentedLettuceConnectionFactory(RedisStandaloneConfiguration configuration,
+                                                LettuceClientConfiguration clientConfiguration) {
+        super(configuration, clientConfiguration);
+    }
+
+    public InstrumentedLettuceConnectionFactory(RedisSentinelConfiguration configuration,
+                                                LettuceClientConfiguration clientConfiguration) {
+        super(configuration, clientConfiguration);
+    }
+
+    public InstrumentedLettuceConnectionFactory(RedisClusterConfiguration configuration,
+                                                LettuceClientConfiguration clientConfiguration) {
+        super(configuration, clientConfiguration);
+    }
+
+    @Override
+    public RedisConnection getConnection() {
+
+        // Cluster 모드는 getClusterConnection()에서 기록함
+        if (isClusterAware()) {
+            return getClusterConnection();
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return super.getConnection();
+
+        } catch (RuntimeException e) {
+            acquireErrorCount.increment();
+            throw e;
+
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public RedisClusterConnection getClusterConnection() {
+
+        long start = System.nanoTime();
+
+        try {
+            return super.getClusterConnection();
+
+        } catch (RuntimeException e) {
+            acquireErrorCount.increment();
+            throw e;
+
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    private void record(long nanos) {
+        acquireCount.increment();
+        acquireNanos.add(nanos);
+        acquireMaxNanos.accumulate(nanos);
+    }
+
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    public long getAcquireNanos() {
+        return acquireNanos.sum();
+    }
+
+    public long getAcquireMaxNanos() {
+        return acquireMaxNanos.get();
+    }
+
+    public long getAcquireErrorCount() {
+        return acquireErrorCount.sum();
+    }
+}
@@ -0,0 +1,56 @@
+package kopo.poly.config;
+
+import kopo.poly.repository.entity.LegacyDateTimeConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA(Hibernate) 추가 설정
+ * - logging.sql.sample-rate : DEBUG 로그로 출력할 SQL 비율(kopo.poly.sql 로거가 DEBUG인 경우에만 출력)
+ * - jpa.legacy-date-column : 등록일시, 수정일시를 기존 문자열 컬럼으로 저장(false : DATETIME 컬럼)
+ */
+@Slf4j
+@Configuration
+public class JpaConfig {
+
+    // Hibernate MetadataBuilderContributor 설정 이름
+    private static final String METADATA_BUILDER_CONTRIBUTOR = "hibernate.metadata_builder_contributor";
+
+    @Value("${logging.sql.sample-rate:0.01}")
+    private double sqlSampleRate;
+
+    @Value("${jpa.legacy-date-column:true}")
+    private boolean legacyDateColumn;
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlLogCustomizer() {
+
+        log.info("sqlLogCustomizer sampleRate : {}", sqlSampleRate);
+
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                new SampledSqlStatementInspector(sqlSampleRate));
+    }
+
+    /**
+     * LocalDateTime 속성(reg_dt, chg_dt) 컬럼 형식
+     * - true : 기존 문자열 컬럼(yyyy-MM-dd HH:mm:ss)으로 변환하여 저장, 조회(LegacyDateTimeConverter 자동 적용)
+     * - false : DATETIME 컬럼 사용(ALTER TABLE로 컬럼 형식 변경 후 사용)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer dateColumnCustomizer() {
+
+        log.info("dateColumnCustomizer legacyDateColumn : {}", legacyDateColumn);
+
+        return properties -> {
+            if (legacyDateColumn) {
+                properties.put(METADATA_BUILDER_CONTRIBUTOR, (MetadataBuilderContributor) metadataBuilder ->
+                        metadataBuilder.applyAttributeConverter(LegacyDateTimeConverter.class, true));
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package kopo.poly.config;
+
+import kopo.poly.auth.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * JWT 인증 설정(security.jwt.enabled=true인 경우에만 사용)
+ * <p>
+ * 세션 로그인(/login/v1/loginProc)과 함께 사용할 수 있음
+ * - Authorization: Bearer 헤더가 있는 요청은 세션(Redis) 없이 토큰만으로 인증함(SecurityConfig.jwtFilterChain)
+ * - security.jwt.secret : Base64 서명 키(32byte 이상), 모든 서버가 같은 값을 사용해야 함
+ */
+@Slf4j
+@ConditionalOnProperty(name = "security.jwt.enabled", havingValue = "true")
+@Configuration
+public class JwtConfig {
+
+    @Bean
+    public JwtTokenProvider jwtTokenProvider(
+            @Value("${security.jwt.secret:}") String secret,
+            @Value("${security.jwt.issuer:SpringSecurity}") String issuer,
+            @Value("${security.jwt.access-token-ttl:10m}") Duration accessTokenTtl,
+            @Value("${security.jwt.refresh-token-ttl:14d}") Duration refreshTokenTtl) {
+
+        log.info("jwtTokenProvider Start! issuer : {}, accessTokenTtl : {}, refreshTokenTtl : {}",
+                issuer, accessTokenTtl, refreshTokenTtl);
+
+        if (secret.isBlank()) {
+            // 서버마다 다른 키를 만들면 다른 서버에서 발급한 토큰을 검증할 수 없으므로 임의 키를 만들지 않음
+            throw new IllegalStateException("security.jwt.secret is required when security.jwt.enabled=true");
+        }
+
+        return new JwtTokenProvider(Base64.getDecoder().decode(secret.trim()), issuer, accessTokenTtl,
+                refreshTokenTtl, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,60 @@
+package kopo.poly.config;
+
+import kopo.poly.auth.InMemoryLoginAttemptStore;
+import kopo.poly.auth.LoginAttemptStore;
+import kopo.poly.auth.LoginThrottlePolicy;
+import kopo.poly.auth.RedisLoginAttemptStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 로그인 시도 제한, 계정 잠금 설정
+ * - security.login-throttle.store : redis(모든 서버가 함께 사용, 기본값), memory(서버별 메모리, 서버 1대 또는 테스트용)
+ */
+@Slf4j
+@Configuration
+public class LoginThrottleConfig {
+
+    @Bean
+    public LoginThrottlePolicy loginThrottlePolicy(
+            @Value("${security.login-throttle.window:1m}") Duration window,
+            @Value("${security.login-throttle.max-attempts-per-user:10}") int maxAttemptsPerUser,
+            @Value("${security.login-throttle.max-attempts-per-ip:100}") int maxAttemptsPerIp,
+            @Value("${security.login-throttle.failure-window:15m}") Duration failureWindow,
+            @Value("${security.login-throttle.max-failures:5}") int maxFailures,
+            @Value("${security.login-throttle.lock-duration:15m}") Duration lockDuration) {
+
+        LoginThrottlePolicy policy = LoginThrottlePolicy.builder()
+                .window(window)
+                .maxAttemptsPerUser(maxAttemptsPerUser)
+                .maxAttemptsPerIp(maxAttemptsPerIp)
+                .failureWindow(failureWindow)
+                .maxFailures(maxFailures)
+                .lockDuration(lockDuration)
+                .build();
+
+        log.info("loginThrottlePolicy : {}", policy);
+
+        return policy;
+    }
+
+    @Bean
+    public LoginAttemptStore loginAttemptStore(LoginThrottlePolicy loginThrottlePolicy,
+                                               StringRedisTemplate stringRedisTemplate,
+                                               @Value("${security.login-throttle.store:redis}") String store) {
+
+        log.info("loginAttemptStore store : {}", store);
+
+        if ("memory".equalsIgnoreCase(store)) {
+            return new InMemoryLoginAttemptStore(loginThrottlePolicy, Clock.systemUTC());
+        }
+
+        return new RedisLoginAttemptStore(stringRedisTemplate, loginThrottlePolicy, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,193 @@
+package kopo.poly.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import kopo.poly.auth.PasswordHashingExecutor;
+import kopo.poly.cache.UserDetailsCache;
+import kopo.poly.cache.UserInfoCache;
+import kopo.poly.session.CompactSessionRedisSerializer;
+import kopo.poly.session.NearCacheSessionRepository;
+import kopo.poly.session.SessionRoundTripCounter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 운영 지표(Micrometer) 설정
+ * <p>
+ * 각 기능에서 LongAdder 등으로 모으고 있는 통계를 지표로 등록함(지표 수집 시에만 값을 읽으므로 요청 처리 비용이 없음)
+ * - cache.* : 로그인 사용자 캐시(userDetails), 회원정보 캐시(userInfo, userInfoRedis)
+ * - auth.password.executor.* : 비밀번호 해시 스레드 풀 대기 시간, 대기열, 거절 수
+ * - redis.connection.acquire : Redis 연결 획득 시간
+ * - session.serializer.*, session.near-cache.*, session.round-trips.* : 세션 변환, 메모리 캐시, Redis 왕복 횟수
+ * <p>
+ * 처리 시간(Timer)은 각 기능에서 직접 기록함
+ * - auth.user.load, auth.password.hash, crypto.field, session.store, user.register
+ * - http.server.requests(URL별 응답 시간), hikaricp.*(DB 커넥션 대기), hibernate.*, lettuce.command.*는 Spring Boot가 등록함
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 로그인 사용자 캐시
+     */
+    @Bean
+    public MeterBinder userDetailsCacheMetrics(UserDetailsCache userDetailsCache) {
+
+        return registry -> {
+            bindCaffeine(registry, "userDetails", userDetailsCache::stats);
+
+            Gauge.builder("cache.size", userDetailsCache, UserDetailsCache::size)
+                    .tag("cache", "userDetails")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 회원정보 2단계 캐시(L1 : userInfo, L2 : userInfoRedis)
+     */
+    @Bean
+    public MeterBinder userInfoCacheMetrics(UserInfoCache userInfoCache) {
+
+        return registry -> {
+            bindCaffeine(registry, "userInfo", userInfoCache::localStats);
+
+            counter(registry, "cache.gets", userInfoCache, c -> c.redisHitCount(), "cache", "userInfoRedis", "result", "hit");
+            counter(registry, "cache.gets", userInfoCache, c -> c.redisMissCount(), "cache", "userInfoRedis", "result", "miss");
+            counter(registry, "cache.errors", userInfoCache, c -> c.redisErrorCount(), "cache", "userInfoRedis");
+        };
+    }
+
+    /**
+     * 비밀번호 해시 전용 스레드 풀
+     */
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingExecutor passwordHashingExecutor) {
+
+        return registry -> {
+            FunctionTimer.builder("auth.password.executor.wait", passwordHashingExecutor,
+                            PasswordHashingExecutor::getWaitCount, PasswordHashingExecutor::getWaitTotalNanos,
+                            TimeUnit.NANOSECONDS)
+                    .description("password hashing queue wait time")
+                    .register(registry);
+
+            TimeGauge.builder("auth.password.executor.wait.max", passwordHashingExecutor, TimeUnit.NANOSECONDS,
+                            PasswordHashingExecutor::getWaitMaxNanos)
+                    .register(registry);
+
+            Gauge.builder("auth.password.executor.queued", passwordHashingExecutor, PasswordHashingExecutor::getQueueDepth)
+                    .register(registry);
+
+            Gauge.builder("auth.password.executor.active", passwordHashingExecutor, PasswordHashingExecutor::getActiveCount)
+                    .register(registry);
+
+            counter(registry, "auth.password.executor.rejected", passwordHashingExecutor,
+                    PasswordHashingExecutor::getRejectedCount);
+        };
+    }
+
+    /**
+     * Redis 연결 획득 시간(InstrumentedLettuceConnectionFactory인 경우)
+     */
+    @Bean
+    public MeterBinder redisConnectionMetrics(RedisConnectionFactory redisConnectionFactory) {
+
+        return registry -> {
+            if (!(redisConnectionFactory instanceof InstrumentedLettuceConnectionFactory factory)) {
+                return;
+            }
+
+            FunctionTimer.builder("redis.connection.acquire", factory,
+                            InstrumentedLettuceConnectionFactory::getAcquireCount,
+                            InstrumentedLettuceConnectionFactory::getAcquireNanos, TimeUnit.NANOSECONDS)
+                    .description("redis connection acquire time")
+                    .register(registry);
+
+            TimeGauge.builder("redis.connection.acquire.max", factory, TimeUnit.NANOSECONDS,
+                            InstrumentedLettuceConnectionFactory::getAcquireMaxNanos)
+                    .register(registry);
+
+            counter(registry, "redis.connection.acquire.errors", factory,
+                    InstrumentedLettuceConnectionFactory::getAcquireErrorCount);
+        };
+    }
+
+    /**
+     * 세션 변환(Serializer), 세션 메모리 캐시, Redis 왕복 횟수(near-cache 사용 시)
+     */
+    @Bean
+    public MeterBinder sessionMetrics(CompactSessionRedisSerializer serializer,
+                                      ObjectProvider<NearCacheSessionRepository> nearCacheSessionRepository,
+                                      ObjectProvider<SessionRoundTripCounter> sessionRoundTripCounter) {
+
+        return registry -> {
+            FunctionTimer.builder("session.serializer", serializer,
+                            CompactSessionRedisSerializer::getSerializeCount,
+                            CompactSessionRedisSerializer::getSerializeNanos, TimeUnit.NANOSECONDS)
+                    .tag("operation", "serialize")
+                    .register(registry);
+
+            FunctionTimer.builder("session.serializer", serializer,
+                            CompactSessionRedisSerializer::getDeserializeCount,
+                            CompactSessionRedisSerializer::getDeserializeNanos, TimeUnit.NANOSECONDS)
+                    .tag("operation", "deserialize")
+                    .register(registry);
+
+            FunctionCounter.builder("session.serializer.bytes", serializer, s -> s.getSerializedBytes())
+                    .baseUnit("bytes")
+                    .tag("operation", "serialize")
+                    .register(registry);
+
+            FunctionCounter.builder("session.serializer.bytes", serializer, s -> s.getDeserializedBytes())
+                    .baseUnit("bytes")
+                    .tag("operation", "deserialize")
+                    .register(registry);
+
+            counter(registry, "session.serializer.jdk", serializer, s -> s.getJdkReadCount(), "result", "read");
+            counter(registry, "session.serializer.jdk", serializer, s -> s.getJdkFallbackCount(), "result", "fallback");
+            counter(registry, "session.serializer.jdk", serializer, s -> s.getJdkReadErrorCount(), "result", "error");
+
+            nearCacheSessionRepository.ifAvailable(repository -> {
+                counter(registry, "session.near-cache.gets", repository, r -> r.getHitCount(), "result", "hit");
+                counter(registry, "session.near-cache.gets", repository, r -> r.getMissCount(), "result", "miss");
+                counter(registry, "session.near-cache.touches", repository, r -> r.getTouchCoalescedCount(), "result", "coalesced");
+                counter(registry, "session.near-cache.touches", repository, r -> r.getTouchWrittenCount(), "result", "written");
+                counter(registry, "session.near-cache.invalidations", repository, r -> r.getInvalidationCount());
+                Gauge.builder("session.near-cache.size", repository, NearCacheSessionRepository::size)
+                        .register(registry);
+            });
+
+            sessionRoundTripCounter.ifAvailable(roundTrips -> {
+                counter(registry, "session.round-trips.requests", roundTrips, c -> c.getRequestCount());
+                counter(registry, "session.round-trips", roundTrips, c -> c.getRequestRoundTrips(), "source", "request");
+                counter(registry, "session.round-trips", roundTrips, c -> c.getBackgroundRoundTrips(), "source", "background");
+                Gauge.builder("session.round-trips.max", roundTrips, SessionRoundTripCounter::getMaxPerRequest)
+                        .register(registry);
+            });
+        };
+    }
+
+    /**
+     * Caffeine 캐시 통계(Micrometer CaffeineCacheMetrics와 같은 이름)
+     */
+    private static void bindCaffeine(MeterRegistry registry, String cache, Supplier<CacheStats> stats) {
+
+        counter(registry, "cache.gets", stats, s -> s.get().hitCount(), "cache", cache, "result", "hit");
+        counter(registry, "cache.gets", stats, s -> s.get().missCount(), "cache", cache, "result", "miss");
+        counter(registry, "cache.evictions", stats, s -> s.get().evictionCount(), "cache", cache);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T obj, ToDoubleFunction<T> f, String... tags) {
+        FunctionCounter.builder(name, obj, f).tags(tags).register(registry);
+    }
+}
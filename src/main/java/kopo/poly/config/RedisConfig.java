@@ -1,37 +1,248 @@
 package kopo.poly.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import kopo.poly.dto.UserInfoDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
-import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 설정
+ * <p>
+ * 연결 정보는 spring.data.redis.* (Spring Boot RedisProperties)를 사용함
+ * - sentinel.master가 있으면 Sentinel, cluster.nodes가 있으면 Cluster, 그 외에는 단일 서버(host, port)로 연결함
+ * - timeout(명령 제한 시간), connect-timeout, lettuce.pool.*, lettuce.cluster.refresh.* 설정 적용
+ * <p>
+ * Lettuce 추가 설정은 redis.client.* 를 사용함
+ * - connection-mode : shared(연결 1개를 모든 요청이 함께 사용, 기본값), pooled(요청마다 풀에서 연결을 가져옴, lettuce.pool.enabled 필요)
+ * - read-from : 읽기 명령을 보낼 서버(예 : upstream, replicaPreferred), Sentinel, Cluster에서 사용
+ * - io-thread-pool-size, computation-thread-pool-size : Lettuce 스레드 수(0 : CPU 코어 수)
+ */
+@Slf4j
+@RequiredArgsConstructor
 @Configuration
 public class RedisConfig {
 
-    @Value("${spring.data.redis.host}")
-    private String redisHost;
+    private final RedisProperties redisProperties;
+
+    // Spring Boot가 등록한 Lettuce 설정(명령 응답 시간 지표 lettuce.command.* 등)
+    private final ObjectProvider<ClientResourcesBuilderCustomizer> clientResourcesBuilderCustomizers;
+
+    @Value("${redis.client.connection-mode:shared}")
+    private String connectionMode;
+
+    @Value("${redis.client.read-from:}")
+    private String readFrom;
+
+    @Value("${redis.client.io-thread-pool-size:0}")
+    private int ioThreadPoolSize;
+
+    @Value("${redis.client.computation-thread-pool-size:0}")
+    private int computationThreadPoolSize;
+
+    /**
+     * Lettuce 스레드(Netty 이벤트 루프) 설정, 모든 Redis 연결이 함께 사용함
+     * - 직접 만들면 Spring Boot 설정이 적용되지 않으므로 ClientResourcesBuilderCustomizer를 직접 적용함
+     *   (세션 조회, 저장 등 Redis 명령별 응답 시간이 lettuce.command.completion 지표로 기록됨)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources() {
+
+        DefaultClientResources.Builder builder = DefaultClientResources.builder();
 
-    @Value("${spring.data.redis.port}")
-    private int redisPort;
+        if (ioThreadPoolSize > 0) {
+            builder.ioThreadPoolSize(ioThreadPoolSize);
+        }
 
-    @Value("${spring.data.redis.username}")
-    private String redisUsername;
+        if (computationThreadPoolSize > 0) {
+            builder.computationThreadPoolSize(computationThreadPoolSize);
+        }
 
-    @Value("${spring.data.redis.password}")
-    private String redisPassword;
+        clientResourcesBuilderCustomizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+
+        return builder.build();
+    }
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
-        redisStandaloneConfiguration.setHostName(redisHost);
-        redisStandaloneConfiguration.setPort(redisPort);
-        redisStandaloneConfiguration.setUsername(redisUsername); // RedisDB 사용자 이름
-        redisStandaloneConfiguration.setPassword(redisPassword);
 
-        return new LettuceConnectionFactory(redisStandaloneConfiguration);
+        LettuceClientConfiguration clientConfiguration = lettuceClientConfiguration();
+        InstrumentedLettuceConnectionFactory connectionFactory;
+
+        RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+
+        if (sentinel != null && StringUtils.hasText(sentinel.getMaster())) {
+            RedisSentinelConfiguration redisSentinelConfiguration = new RedisSentinelConfiguration();
+            redisSentinelConfiguration.master(sentinel.getMaster());
+            redisSentinelConfiguration.setSentinels(toNodes(sentinel.getNodes()));
+            redisSentinelConfiguration.setSentinelUsername(sentinel.getUsername());
+            redisSentinelConfiguration.setSentinelPassword(sentinel.getPassword());
+            redisSentinelConfiguration.setUsername(redisProperties.getUsername());
+            redisSentinelConfiguration.setPassword(redisProperties.getPassword());
+            redisSentinelConfiguration.setDatabase(redisProperties.getDatabase());
+
+            log.info("redisConnectionFactory sentinel : {}, nodes : {}", sentinel.getMaster(), sentinel.getNodes());
+
+            connectionFactory = new InstrumentedLettuceConnectionFactory(redisSentinelConfiguration, clientConfiguration);
+
+        } else if (cluster != null && cluster.getNodes() != null && !cluster.getNodes().isEmpty()) {
+            RedisClusterConfiguration redisClusterConfiguration = new RedisClusterConfiguration(cluster.getNodes());
+            redisClusterConfiguration.setUsername(redisProperties.getUsername());
+            redisClusterConfiguration.setPassword(redisProperties.getPassword());
+
+            if (cluster.getMaxRedirects() != null) {
+                redisClusterConfiguration.setMaxRedirects(cluster.getMaxRedirects());
+            }
+
+            log.info("redisConnectionFactory cluster : {}", cluster.getNodes());
+
+            connectionFactory = new InstrumentedLettuceConnectionFactory(redisClusterConfiguration, clientConfiguration);
+
+        } else {
+            RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
+            redisStandaloneConfiguration.setHostName(redisProperties.getHost());
+            redisStandaloneConfiguration.setPort(redisProperties.getPort());
+            redisStandaloneConfiguration.setUsername(redisProperties.getUsername()); // RedisDB 사용자 이름
+            redisStandaloneConfiguration.setPassword(redisProperties.getPassword());
+            redisStandaloneConfiguration.setDatabase(redisProperties.getDatabase());
+
+            log.info("redisConnectionFactory standalone : {}:{}", redisProperties.getHost(), redisProperties.getPort());
+
+            connectionFactory = new InstrumentedLettuceConnectionFactory(redisStandaloneConfiguration, clientConfiguration);
+        }
+
+        // pooled : 요청마다 풀에서 연결을 가져옴, shared : 연결 1개를 함께 사용(트랜잭션, 블로킹 명령만 풀 사용)
+        connectionFactory.setShareNativeConnection(!"pooled".equalsIgnoreCase(connectionMode));
+
+        return connectionFactory;
+    }
+
+    /**
+     * Lettuce 클라이언트 설정(명령 제한 시간, 연결 풀, 읽기 서버, Cluster 구성 변경 감지)
+     */
+    private LettuceClientConfiguration lettuceClientConfiguration() {
+
+        RedisProperties.Lettuce lettuce = redisProperties.getLettuce();
+        RedisProperties.Pool pool = lettuce.getPool();
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder;
+
+        if (pool != null && Boolean.TRUE.equals(pool.getEnabled())) {
+            GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+            poolConfig.setMaxTotal(pool.getMaxActive());
+            poolConfig.setMaxIdle(pool.getMaxIdle());
+            poolConfig.setMinIdle(pool.getMinIdle());
+
+            if (pool.getMaxWait() != null) {
+                poolConfig.setMaxWait(pool.getMaxWait());
+            }
+
+            if (pool.getTimeBetweenEvictionRuns() != null) {
+                poolConfig.setTimeBetweenEvictionRuns(pool.getTimeBetweenEvictionRuns());
+            }
+
+            builder = LettucePoolingClientConfiguration.builder().poolConfig(poolConfig);
+
+        } else {
+            builder = LettuceClientConfiguration.builder();
+        }
+
+        builder.clientResources(lettuceClientResources());
+
+        if (redisProperties.getTimeout() != null) {
+            builder.commandTimeout(redisProperties.getTimeout());
+        }
+
+        if (lettuce.getShutdownTimeout() != null) {
+            builder.shutdownTimeout(lettuce.getShutdownTimeout());
+        }
+
+        if (StringUtils.hasText(redisProperties.getClientName())) {
+            builder.clientName(redisProperties.getClientName());
+        }
+
+        if (StringUtils.hasText(readFrom)) {
+            builder.readFrom(ReadFrom.valueOf(readFrom));
+        }
+
+        builder.clientOptions(clientOptions());
+
+        return builder.build();
+    }
+
+    private ClientOptions clientOptions() {
+
+        SocketOptions.Builder socketOptions = SocketOptions.builder();
+
+        if (redisProperties.getConnectTimeout() != null) {
+            socketOptions.connectTimeout(redisProperties.getConnectTimeout());
+        }
+
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+
+        if (cluster != null && cluster.getNodes() != null && !cluster.getNodes().isEmpty()) {
+            RedisProperties.Lettuce.Cluster.Refresh refresh = redisProperties.getLettuce().getCluster().getRefresh();
+
+            ClusterTopologyRefreshOptions.Builder refreshOptions = ClusterTopologyRefreshOptions.builder()
+                    .dynamicRefreshSources(refresh.isDynamicRefreshSources());
+
+            Duration period = refresh.getPeriod();
+
+            if (period != null) {
+                refreshOptions.enablePeriodicRefresh(period); // 주기적으로 Cluster 구성 확인
+            }
+
+            if (refresh.isAdaptive()) {
+                refreshOptions.enableAllAdaptiveRefreshTriggers(); // MOVED, 연결 끊김 등 발생 시 Cluster 구성 확인
+            }
+
+            return ClusterClientOptions.builder()
+                    .socketOptions(socketOptions.build())
+                    .timeoutOptions(TimeoutOptions.enabled())
+                    .topologyRefreshOptions(refreshOptions.build())
+                    .build();
+        }
+
+        return ClientOptions.builder()
+                .socketOptions(socketOptions.build())
+                .timeoutOptions(TimeoutOptions.enabled())
+                .build();
+    }
+
+    private static List<RedisNode> toNodes(List<String> nodes) {
+        return nodes == null ? List.of() : nodes.stream().map(RedisNode::fromString).toList();
     }
 
     @Bean
@@ -41,4 +252,36 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    /**
+     * 회원정보 캐시(UserInfoCache) 저장용 RedisTemplate
+     * - Key는 문자열, Value는 JSON 구조로 저장함
+     */
+    @Bean
+    public RedisTemplate<String, UserInfoDTO> userInfoRedisTemplate() {
+        RedisTemplate<String, UserInfoDTO> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(UserInfoDTO.class));
+
+        return redisTemplate;
+    }
+
+    /**
+     * Redis Pub/Sub 메시지 수신 컨테이너(서버 간 캐시 삭제 알림 수신에 사용)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(Environment environment) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+
+        // 가상 스레드 사용 설정(spring.threads.virtual.enabled, Java 21 이상)인 경우 메시지 처리도 가상 스레드로 실행함
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("redis-listener-");
+            executor.setVirtualThreads(true);
+            container.setTaskExecutor(executor);
+        }
+
+        return container;
+    }
 }
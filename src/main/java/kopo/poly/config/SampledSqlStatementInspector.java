@@ -0,0 +1,37 @@
+package kopo.poly.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실행 SQL 일부만 로그로 남기는 StatementInspector
+ * <p>
+ * show-sql, format_sql, use_sql_comments는 모든 SQL을 요청 스레드에서 바로 출력하므로 운영에서는 사용하지 않음
+ * - kopo.poly.sql 로거가 DEBUG일 때만 동작함(기본값 INFO : 로그 레벨 확인 1번 외에 비용 없음)
+ * - DEBUG인 경우에도 sample-rate 비율만 출력함(운영 중 /actuator/loggers로 잠시 켜서 확인)
+ * - SQL은 변경하지 않고 그대로 반환함
+ */
+@Slf4j(topic = "kopo.poly.sql")
+public class SampledSqlStatementInspector implements StatementInspector {
+
+    private final double sampleRate;
+
+    /**
+     * @param sampleRate 출력 비율(0 ~ 1, 1이면 모든 SQL 출력)
+     */
+    public SampledSqlStatementInspector(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+
+        if (log.isDebugEnabled() && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            log.debug("{}", sql);
+        }
+
+        return sql;
+    }
+}
@@ -1,15 +1,47 @@
 package kopo.poly.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import kopo.poly.auth.AuthInfoAuthenticationProvider;
+import kopo.poly.auth.BCryptStrengthCalibrator;
+import kopo.poly.auth.ExecutorPasswordEncoder;
+import kopo.poly.auth.JwtAuthInfoConverter;
+import kopo.poly.auth.JwtLoginSuccessHandler;
+import kopo.poly.auth.JwtTokenProvider;
+import kopo.poly.auth.LoginAttemptStore;
+import kopo.poly.auth.LoginFailureHandler;
+import kopo.poly.auth.LoginThrottleFilter;
+import kopo.poly.auth.PasswordHashingExecutor;
+import kopo.poly.service.IUserInfoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationEntryPoint;
+import org.springframework.security.oauth2.server.resource.web.access.BearerTokenAccessDeniedHandler;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -17,34 +49,161 @@ import org.springframework.security.web.SecurityFilterChain;
 @Configuration
 public class SecurityConfig {
 
+    // 비밀번호 해시 전용 스레드 풀
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    // 로그인 실패 처리
+    private final LoginFailureHandler loginFailureHandler;
+
+    // 로그인 시도, 계정 잠금 저장소
+    private final LoginAttemptStore loginAttemptStore;
+
+    // 비밀번호 해시 시간 기록
+    private final MeterRegistry meterRegistry;
+
+    // 새 비밀번호 암호화에 사용할 알고리즘(bcrypt, pbkdf2)
+    @Value("${security.password.encoder-id:bcrypt}")
+    private String encoderId;
+
+    // BCrypt 강도(0이면 서버 시작 시 target-latency에 맞춰 자동 계산)
+    @Value("${security.password.bcrypt.strength:0}")
+    private int bcryptStrength;
+
+    // BCrypt 목표 해시 시간
+    @Value("${security.password.bcrypt.target-latency:50ms}")
+    private Duration bcryptTargetLatency;
+
+    @Value("${security.password.bcrypt.min-strength:10}")
+    private int bcryptMinStrength;
+
+    @Value("${security.password.bcrypt.max-strength:14}")
+    private int bcryptMaxStrength;
+
+    // 운영 정보(actuator) 전용 포트(-1 : 서비스 포트에서 함께 제공)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
+    /**
+     * 비밀번호 암호화 객체
+     * <p>
+     * 저장 형식 : {알고리즘}해시값 (예 : {bcrypt}$2a$10$...)
+     * - 알고리즘 접두어가 없는 기존 비밀번호는 BCrypt로 비교함
+     * - 알고리즘, 강도가 바뀌면 로그인 성공 시 UserInfoService.updatePassword()로 새 형식으로 다시 저장됨
+     * - 해시 계산은 요청 스레드가 아닌 PasswordHashingExecutor에서 실행됨
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        log.info("{}.PasswordEncoder Start!", this.getClass().getName());
-        return new BCryptPasswordEncoder();
+        log.info("PasswordEncoder Start!");
+
+        int strength = bcryptStrength > 0 ? bcryptStrength
+                : BCryptStrengthCalibrator.calibrate(bcryptTargetLatency, bcryptMinStrength, bcryptMaxStrength);
+
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bCryptPasswordEncoder);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(encoderId, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder); // 접두어 없는 기존 비밀번호
+
+        log.info("PasswordEncoder End! encoderId : {}, bcrypt strength : {}", encoderId, strength);
+
+        return new ExecutorPasswordEncoder(passwordEncoder, passwordHashingExecutor, meterRegistry);
+    }
+
+    /**
+     * 아이디, 비밀번호 로그인 처리
+     * - 로그인 성공 시 비밀번호를 지운 AuthInfo가 세션에 저장됨
+     */
+    @Bean
+    public DaoAuthenticationProvider authenticationProvider(IUserInfoService userInfoService) {
+
+        AuthInfoAuthenticationProvider provider = new AuthInfoAuthenticationProvider();
+        provider.setPasswordEncoder(passwordEncoder());
+        provider.setUserDetailsService(userInfoService);
+        provider.setUserDetailsPasswordService(userInfoService); // 로그인 성공 시 비밀번호 해시 다시 저장
+
+        return provider;
     }
 
+    /**
+     * JWT 인증(security.jwt.enabled=true, 세션 로그인보다 먼저 확인함)
+     * <p>
+     * Authorization: Bearer 헤더가 있는 요청, 토큰 발급(/login/v1/tokenProc), 재발급(/login/v1/refreshToken) 요청만 처리함
+     * - 세션을 만들거나 읽지 않으므로 요청마다 Redis 세션 조회가 없음(토큰 서명 검증만 함)
+     * - 그 외 요청(쿠키 세션)은 filterChain()에서 기존과 같이 처리함
+     */
     @Bean
+    @Order(1)
+    @ConditionalOnProperty(name = "security.jwt.enabled", havingValue = "true")
+    public SecurityFilterChain jwtFilterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider,
+                                              ObjectMapper objectMapper) throws Exception {
+
+        log.info("jwtFilterChain Start!");
+
+        RequestMatcher bearerRequest = request -> {
+            String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+            return authorization != null && authorization.regionMatches(true, 0, "Bearer ", 0, 7);
+        };
+
+        http.securityMatcher(new OrRequestMatcher(bearerRequest,
+                new AntPathRequestMatcher("/login/v1/tokenProc"),
+                new AntPathRequestMatcher("/login/v1/refreshToken")));
+
+        // 토큰 발급 요청도 로그인 시도 제한 적용
+        http.addFilterBefore(new LoginThrottleFilter(loginAttemptStore, loginFailureHandler, "/login/v1/tokenProc",
+                        LoginFailureHandler.USERNAME_PARAMETER),
+                UsernamePasswordAuthenticationFilter.class);
+
+        http.csrf(AbstractHttpConfigurer::disable) // 쿠키를 사용하지 않으므로 csrf 필요 없음
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 생성, 저장하지 않음
+                .authorizeHttpRequests(this::authorizeRequests)
+                .formLogin(login -> login
+                        .loginPage("/html/ss/login.html")
+                        .loginProcessingUrl("/login/v1/tokenProc")
+                        .usernameParameter(LoginFailureHandler.USERNAME_PARAMETER)
+                        .passwordParameter("password")
+                        .successHandler(new JwtLoginSuccessHandler(jwtTokenProvider, objectMapper)) // 토큰 JSON 응답
+                        .failureHandler(loginFailureHandler)
+                )
+                .oauth2ResourceServer(resourceServer -> resourceServer
+                        .jwt(jwt -> jwt
+                                .decoder(jwtTokenProvider.getAccessTokenDecoder()) // 서버 시작 시 만든 키로 검증
+                                .jwtAuthenticationConverter(new JwtAuthInfoConverter())) // 토큰 → AuthInfo
+                )
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(new BearerTokenAuthenticationEntryPoint()) // 401
+                        .accessDeniedHandler(new BearerTokenAccessDeniedHandler()) // 403
+                )
+                .logout(AbstractHttpConfigurer::disable); // 토큰은 클라이언트에서 삭제함
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
-        log.info("{}.filterChain Start!", this.getClass().getName());
+        log.info("filterChain Start!");
+
+        // 로그인 시도 제한(아이디, IP별 시도 수 초과 또는 잠긴 계정은 DB 조회, 비밀번호 해시 전에 거절)
+        // Bean으로 등록하면 Servlet Filter로 한 번 더 등록되므로 직접 생성함
+        LoginThrottleFilter loginThrottleFilter = new LoginThrottleFilter(
+                loginAttemptStore, loginFailureHandler, "/login/v1/loginProc", LoginFailureHandler.USERNAME_PARAMETER);
+
+        http.addFilterBefore(loginThrottleFilter, UsernamePasswordAuthenticationFilter.class);
 
         http.csrf(AbstractHttpConfigurer::disable)         // POST 방식 전송을 위해 csrf 막기
-                .authorizeHttpRequests(authz -> authz // 페이지 접속 권한 설정
-                                .requestMatchers("/notice/v1/**").hasAnyAuthority("ROLE_USER") // USER 권한
-                                .requestMatchers("/user/v1/**").authenticated() // Spring Security 인증된 사용자만 접근
-                                .requestMatchers("/html/user/**").authenticated() // Spring Security 인증된 사용자만 접근
-
-                                .requestMatchers("/admin/**").hasAnyAuthority("ROLE_ADMIN") // 관리자 권한
-//                        .anyRequest().authenticated() // 그외 나머지 url 요청은 인증된 사용자만 가능
-                                .anyRequest().permitAll() // 그 외 나머지 url 요청은 인증 받지 않아도 접속 가능함
-                )
+                .authorizeHttpRequests(this::authorizeRequests) // 페이지 접속 권한 설정
                 .formLogin(login -> login // 로그인 페이지 설정
                         .loginPage("/html/ss/login.html")
                         .loginProcessingUrl("/login/v1/loginProc")
-                        .usernameParameter("userId") // 로그인 ID로 사용할 html의 input객체의 name 값
+                        .usernameParameter(LoginFailureHandler.USERNAME_PARAMETER) // 로그인 ID로 사용할 html의 input객체의 name 값
                         .passwordParameter("password") // 로그인 패스워드로 사용할 html의 input객체의 name 값
                         .successForwardUrl("/login/v1/loginSuccess") // Web MVC, Controller 사용할 때 적용 / 로그인 성공 URL
-                        .failureForwardUrl("/login/v1/loginFail") // Web MVC, Controller 사용할 때 적용 / 로그인 실패 URL
+                        .failureHandler(loginFailureHandler) // 로그인 실패 시 /login/v1/loginFail 이동(해시 작업이 밀린 경우 503 응답)
                 )
                 .logout(logout -> logout
                         .logoutUrl("/user/v1/logout") // 로그이웃 요청 URL
@@ -55,4 +214,34 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    /**
+     * 페이지 접속 권한 설정(세션, JWT 인증 공통)
+     */
+    private void authorizeRequests(
+            AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry authz) {
+
+        authz.requestMatchers("/actuator/health").permitAll() // 상태 확인
+                .requestMatchers(managementPortRequest("/actuator/prometheus")).permitAll() // 지표 수집(운영 정보 전용 포트로 요청한 경우만)
+                .requestMatchers("/actuator/**").hasAnyAuthority("ROLE_ADMIN") // 그 외 운영 정보는 관리자만
+                .requestMatchers("/notice/v1/**").hasAnyAuthority("ROLE_USER") // USER 권한
+                .requestMatchers("/user/v1/**").authenticated() // Spring Security 인증된 사용자만 접근
+                .requestMatchers("/html/user/**").authenticated() // Spring Security 인증된 사용자만 접근
+
+                .requestMatchers("/admin/**").hasAnyAuthority("ROLE_ADMIN") // 관리자 권한
+//                .anyRequest().authenticated() // 그외 나머지 url 요청은 인증된 사용자만 가능
+                .anyRequest().permitAll(); // 그 외 나머지 url 요청은 인증 받지 않아도 접속 가능함
+    }
+
+    /**
+     * 운영 정보 전용 포트(management.server.port)로 들어온 요청
+     * - 요청을 받은 서버 포트(getLocalPort)로 판단하므로 Host 헤더 등을 변경해도 우회할 수 없음
+     * - 전용 포트를 사용하지 않으면 항상 false(서비스 포트에서는 관리자만 접근 가능)
+     */
+    private RequestMatcher managementPortRequest(String pattern) {
+
+        RequestMatcher path = AntPathRequestMatcher.antMatcher(pattern);
+
+        return request -> managementPort > 0 && request.getLocalPort() == managementPort && path.matches(request);
+    }
 }
@@ -0,0 +1,113 @@
+package kopo.poly.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kopo.poly.session.CompactSessionRedisSerializer;
+import kopo.poly.session.NearCacheSessionRepository;
+import kopo.poly.session.RedisSessionStore;
+import kopo.poly.session.SessionRoundTripCounter;
+import kopo.poly.session.SessionRoundTripFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.session.MapSession;
+import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+
+import java.time.Duration;
+
+/**
+ * Spring Session(Redis) 설정
+ * <p>
+ * session.serializer
+ * - jdk : JDK 직렬화로 저장(새 형식도 읽을 수 있음, 기본값), 새 형식을 적용할 때 먼저 모든 서버에 이 값으로 배포함
+ * - compact : 직접 정의한 바이너리 형식으로 저장(기존 JDK 직렬화 세션도 읽을 수 있음)
+ * <p>
+ * session.near-cache.enabled=true이면 RedisSessionRepository 대신 NearCacheSessionRepository를 사용함
+ * - Redis에 저장하는 형식은 같으므로 서버별로 켜고 끌 수 있음
+ *   (RedisSessionRepository 서버는 변경 알림을 보내지 않으므로 함께 운영하는 동안 다른 서버 캐시는 ttl만큼 늦게 반영됨)
+ * - local=false이면 메모리 캐시 없이 저장 묶음(파이프라인)만 사용함
+ */
+@Slf4j
+@EnableRedisHttpSession
+@Configuration
+public class SessionConfig {
+
+    @Value("${session.serializer:jdk}")
+    private String serializer;
+
+    @Value("${session.near-cache.max-size:10000}")
+    private long nearCacheMaxSize;
+
+    @Value("${session.near-cache.ttl:30s}")
+    private Duration nearCacheTtl;
+
+    @Value("${session.near-cache.touch-interval:5s}")
+    private Duration nearCacheTouchInterval;
+
+    @Value("${session.near-cache.local:true}")
+    private boolean nearCacheLocal;
+
+    @Value("${session.near-cache.pipelined:true}")
+    private boolean nearCachePipelined;
+
+    /**
+     * Spring Session이 세션 값 저장에 사용하는 Serializer(Bean 이름으로 찾으므로 이름 변경하면 안 됨)
+     */
+    @Bean
+    public CompactSessionRedisSerializer springSessionDefaultRedisSerializer() {
+
+        log.info("springSessionDefaultRedisSerializer serializer : {}", serializer);
+
+        return new CompactSessionRedisSerializer(getClass().getClassLoader(), "compact".equalsIgnoreCase(serializer));
+    }
+
+    /**
+     * 서버별 메모리 캐시를 사용하는 세션 저장소
+     * - 세션 만료 시간은 @EnableRedisHttpSession 기본값(RedisSessionRepository)과 동일하게 사용함
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "session.near-cache.enabled", havingValue = "true")
+    public NearCacheSessionRepository nearCacheSessionRepository(RedisConnectionFactory redisConnectionFactory,
+                                                                 RedisMessageListenerContainer redisMessageListenerContainer,
+                                                                 MeterRegistry meterRegistry) {
+
+        log.info("nearCacheSessionRepository Start! local : {}, pipelined : {}",
+                nearCacheLocal, nearCachePipelined);
+
+        RedisSessionStore sessionStore = new RedisSessionStore(redisConnectionFactory, springSessionDefaultRedisSerializer(),
+                redisMessageListenerContainer, sessionRoundTripCounter(), nearCachePipelined, meterRegistry);
+
+        return new NearCacheSessionRepository(sessionStore, nearCacheLocal ? nearCacheMaxSize : 0, nearCacheTtl,
+                nearCacheTouchInterval, MapSession.DEFAULT_MAX_INACTIVE_INTERVAL);
+    }
+
+    /**
+     * 세션 저장소(Redis) 왕복 횟수 통계
+     */
+    @Bean
+    @ConditionalOnProperty(name = "session.near-cache.enabled", havingValue = "true")
+    public SessionRoundTripCounter sessionRoundTripCounter() {
+        return new SessionRoundTripCounter();
+    }
+
+    /**
+     * 요청별 세션 저장소 왕복 횟수 측정 필터(SessionRepositoryFilter보다 먼저 실행)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "session.near-cache.enabled", havingValue = "true")
+    public FilterRegistrationBean<SessionRoundTripFilter> sessionRoundTripFilter() {
+
+        FilterRegistrationBean<SessionRoundTripFilter> registration =
+                new FilterRegistrationBean<>(new SessionRoundTripFilter(sessionRoundTripCounter()));
+        registration.setOrder(SessionRepositoryFilter.DEFAULT_ORDER - 1);
+
+        return registration;
+    }
+}
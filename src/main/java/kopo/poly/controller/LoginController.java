@@ -15,8 +15,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Optional;
-
 
 @Slf4j
 @RequestMapping(value = "/login/v1")
@@ -27,14 +25,12 @@ public class LoginController {
     @PostMapping(value = "loginSuccess")
     public ResponseEntity<CommonResponse<MsgDTO>> loginSuccess(@AuthenticationPrincipal AuthInfo authInfo, HttpSession session) {
 
-        log.info("{}.loginSuccess Start!", this.getClass().getName());
+        log.info("loginSuccess Start!");
 
         // Spring Security에 저장된 정보 가져오기
-        UserInfoDTO rDTO = Optional.ofNullable(authInfo.userInfoDTO()).orElseGet(() -> UserInfoDTO.builder().build());
-
-        String userId = CmmUtil.nvl(rDTO.userId());
-        String userName = CmmUtil.nvl(rDTO.userName());
-        String userRoles = CmmUtil.nvl(rDTO.roles());
+        String userId = CmmUtil.nvl(authInfo.userId());
+        String userName = CmmUtil.nvl(authInfo.userName());
+        String userRoles = CmmUtil.nvl(authInfo.roles());
 
         log.info("userId : {}", userId);
         log.info("userName : {}", userName);
@@ -47,7 +43,7 @@ public class LoginController {
         // 결과 메시지 전달하기
         MsgDTO dto = MsgDTO.builder().result(1).msg(userName + "님 로그인이 성공하였습니다.").build();
 
-        log.info("{}.loginSuccess End!", this.getClass().getName());
+        log.info("loginSuccess End!");
 
         return ResponseEntity.ok(
                 CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto));
@@ -61,11 +57,11 @@ public class LoginController {
     @PostMapping(value = "loginFail")
     public ResponseEntity<CommonResponse<MsgDTO>> loginFail() {
 
-        log.info("{}.loginFail Start!", getClass().getName());
+        log.info("loginFail Start!");
 
         MsgDTO dto = MsgDTO.builder().result(0).msg("아이디, 패스워드가 일치하지 않습니다.").build();
 
-        log.info("{}.loginFail End!", getClass().getName());
+        log.info("loginFail End!");
 
         return ResponseEntity.ok(
                 CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto));
@@ -73,21 +69,22 @@ public class LoginController {
 
     /**
      * 로그인 정보 가져오기
+     * - 세션에 저장된 값 대신 인증 정보(AuthInfo)를 사용하므로 세션 로그인, JWT(Bearer) 인증 모두 같은 결과를 반환함
      */
     @PostMapping(value = "loginInfo")
-    public ResponseEntity<CommonResponse<UserInfoDTO>> loginInfo(HttpSession session) {
+    public ResponseEntity<CommonResponse<UserInfoDTO>> loginInfo(@AuthenticationPrincipal AuthInfo authInfo) {
 
-        log.info("{}.loginInfo Start!", this.getClass().getName());
+        log.info("loginInfo Start!");
 
-        // Session 저장된 로그인한 회원 정보 가져오기
-        String userId = CmmUtil.nvl((String) session.getAttribute("SS_USER_ID"));
-        String userName = CmmUtil.nvl((String) session.getAttribute("SS_USER_NAME"));
-        String roles = CmmUtil.nvl((String) session.getAttribute("SS_USER_ROLE"));
+        // 로그인한 회원 정보 가져오기(로그인하지 않은 경우 빈 값)
+        String userId = authInfo == null ? "" : CmmUtil.nvl(authInfo.userId());
+        String userName = authInfo == null ? "" : CmmUtil.nvl(authInfo.userName());
+        String roles = authInfo == null ? "" : CmmUtil.nvl(authInfo.roles());
 
-        // 세션 값 전달할 데이터 구조 만들기
+        // 로그인 정보 전달할 데이터 구조 만들기
         UserInfoDTO dto = UserInfoDTO.builder().userId(userId).userName(userName).roles(roles).build();
 
-        log.info("{}.loginInfo End!", this.getClass().getName());
+        log.info("loginInfo End!");
 
         return ResponseEntity.ok(
                 CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto));
@@ -0,0 +1,82 @@
+package kopo.poly.controller;
+
+import kopo.poly.auth.AuthInfo;
+import kopo.poly.auth.JwtTokenProvider;
+import kopo.poly.controller.response.CommonResponse;
+import kopo.poly.dto.MsgDTO;
+import kopo.poly.dto.TokenDTO;
+import kopo.poly.service.IUserInfoService;
+import kopo.poly.util.CmmUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * JWT 재발급(security.jwt.enabled=true)
+ * - 로그인(토큰 발급)은 /login/v1/tokenProc(Spring Security)에서 처리함
+ */
+@Slf4j
+@ConditionalOnProperty(name = "security.jwt.enabled", havingValue = "true")
+@RequestMapping(value = "/login/v1")
+@RequiredArgsConstructor
+@RestController
+public class TokenController {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private final IUserInfoService userInfoService;
+
+    /**
+     * refreshToken으로 accessToken, refreshToken 다시 발급하기
+     * - 권한 변경, 계정 잠금이 반영되도록 회원정보를 다시 조회함(UserDetailsCache 적용)
+     *
+     * @param refreshToken 로그인 시 발급받은 refreshToken
+     */
+    @PostMapping(value = "refreshToken")
+    public ResponseEntity<CommonResponse<?>> refreshToken(@RequestParam("refreshToken") String refreshToken) {
+
+        log.info("refreshToken Start!");
+
+        TokenDTO rDTO;
+
+        try {
+            String userId = jwtTokenProvider.getRefreshTokenUserId(CmmUtil.nvl(refreshToken));
+
+            log.info("userId : {}", userId);
+
+            AuthInfo authInfo = (AuthInfo) userInfoService.loadUserByUsername(userId);
+
+            if (!authInfo.isAccountNonLocked()) {
+                return unauthorized("로그인 실패 횟수가 많아 계정이 잠겼습니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            rDTO = jwtTokenProvider.issue(authInfo.withoutCredentials());
+
+        } catch (JwtException | UsernameNotFoundException e) {
+            log.info("refreshToken rejected : {}", e.getMessage());
+
+            return unauthorized("다시 로그인해주세요.");
+        }
+
+        log.info("refreshToken End!");
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rDTO));
+    }
+
+    private static ResponseEntity<CommonResponse<?>> unauthorized(String msg) {
+
+        MsgDTO dto = MsgDTO.builder().result(0).msg(msg).build();
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(CommonResponse.of(HttpStatus.UNAUTHORIZED, HttpStatus.UNAUTHORIZED.series().name(), dto));
+    }
+}
@@ -0,0 +1,215 @@
+package kopo.poly.controller;
+
+import kopo.poly.controller.response.CommonResponse;
+import kopo.poly.dto.EntityCacheStatsDTO;
+import kopo.poly.dto.MsgDTO;
+import kopo.poly.dto.ReEncryptStatusDTO;
+import kopo.poly.dto.UserImportResultDTO;
+import kopo.poly.service.IEntityCacheService;
+import kopo.poly.service.IFieldReEncryptService;
+import kopo.poly.service.IUserImportService;
+import kopo.poly.service.IUserInfoService;
+import kopo.poly.service.impl.UserImportService;
+import kopo.poly.util.CmmUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+
+/**
+ * 회원 관리용 관리자 기능
+ * - /admin/** 은 SecurityConfig에서 ROLE_ADMIN 권한이 있는 사용자만 접근 가능함
+ */
+@Slf4j
+@RequestMapping(value = "/admin/v1")
+@RequiredArgsConstructor
+@RestController
+public class UserAdminController {
+
+    private final IUserInfoService userInfoService;
+
+    // 이메일 재암호화 작업
+    private final IFieldReEncryptService fieldReEncryptService;
+
+    // Hibernate 2차 캐시
+    private final IEntityCacheService entityCacheService;
+
+    // 회원 일괄 등록
+    private final IUserImportService userImportService;
+
+    /**
+     * 아이디 중복 체크용 Bloom Filter 다시 만들기
+     */
+    @PostMapping(value = "rebuildUserIdFilter")
+    public ResponseEntity<CommonResponse<MsgDTO>> rebuildUserIdFilter() {
+
+        log.info("rebuildUserIdFilter Start!");
+
+        long count = userInfoService.rebuildUserIdFilter();
+
+        MsgDTO dto = MsgDTO.builder().result(1).msg("아이디 " + count + "건으로 다시 만들었습니다.").build();
+
+        log.info("rebuildUserIdFilter End!");
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto));
+    }
+
+    /**
+     * 이메일 재암호화 작업 시작(중지된 위치부터 이어서 실행함)
+     */
+    @PostMapping(value = "startReEncrypt")
+    public ResponseEntity<CommonResponse<MsgDTO>> startReEncrypt() {
+
+        log.info("startReEncrypt Start!");
+
+        boolean started = fieldReEncryptService.start();
+
+        MsgDTO dto = MsgDTO.builder()
+                .result(started ? 1 : 0)
+                .msg(started ? "재암호화 작업을 시작하였습니다." : "재암호화 작업이 이미 실행 중입니다.")
+                .build();
+
+        log.info("startReEncrypt End!");
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto));
+    }
+
+    /**
+     * 이메일 재암호화 작업 중지(현재 batch 처리 후 중지됨)
+     */
+    @PostMapping(value = "stopReEncrypt")
+    public ResponseEntity<CommonResponse<MsgDTO>> stopReEncrypt() {
+
+        log.info("stopReEncrypt Start!");
+
+        fieldReEncryptService.stop();
+
+        MsgDTO dto = MsgDTO.builder().result(1).msg("재암호화 작업 중지를 요청하였습니다.").build();
+
+        log.info("stopReEncrypt End!");
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto));
+    }
+
+    /**
+     * 이메일 재암호화 작업 진행 상태
+     */
+    @PostMapping(value = "getReEncryptStatus")
+    public ResponseEntity<CommonResponse<ReEncryptStatusDTO>> getReEncryptStatus() {
+
+        log.info("getReEncryptStatus Start!");
+
+        ReEncryptStatusDTO rDTO = fieldReEncryptService.getStatus();
+
+        log.info("getReEncryptStatus End!");
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rDTO));
+    }
+
+    /**
+     * Hibernate 2차 캐시, 조회 결과 캐시 통계(적중률 등)
+     */
+    @PostMapping(value = "getEntityCacheStats")
+    public ResponseEntity<CommonResponse<EntityCacheStatsDTO>> getEntityCacheStats() {
+
+        log.info("getEntityCacheStats Start!");
+
+        EntityCacheStatsDTO rDTO = entityCacheService.getStats();
+
+        log.info("getEntityCacheStats End!");
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rDTO));
+    }
+
+    /**
+     * Hibernate 2차 캐시, 조회 결과 캐시 전체 삭제(DB를 직접 수정한 경우 사용)
+     */
+    @PostMapping(value = "evictEntityCache")
+    public ResponseEntity<CommonResponse<MsgDTO>> evictEntityCache() {
+
+        log.info("evictEntityCache Start!");
+
+        entityCacheService.evictAll();
+
+        MsgDTO dto = MsgDTO.builder().result(1).msg("2차 캐시를 삭제하였습니다.").build();
+
+        log.info("evictEntityCache End!");
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto));
+    }
+
+    /**
+     * Hibernate 2차 캐시 통계 초기화(부하 테스트 시작 전 사용)
+     */
+    @PostMapping(value = "clearEntityCacheStats")
+    public ResponseEntity<CommonResponse<MsgDTO>> clearEntityCacheStats() {
+
+        log.info("clearEntityCacheStats Start!");
+
+        entityCacheService.clearStats();
+
+        MsgDTO dto = MsgDTO.builder().result(1).msg("2차 캐시 통계를 초기화하였습니다.").build();
+
+        log.info("clearEntityCacheStats End!");
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto));
+    }
+
+    /**
+     * 회원 일괄 등록(CSV, NDJSON 파일)
+     * - 오류가 있는 행은 건너뛰고 나머지 회원은 등록함(실패 행은 결과의 errors로 전달)
+     *
+     * @param file   회원 파일(csv : 헤더 포함, ndjson : 한 행에 회원 1명)
+     * @param format 파일 형식(csv, ndjson), 없으면 파일 확장자로 판단함
+     */
+    @PostMapping(value = "importUsers")
+    public ResponseEntity<CommonResponse<?>> importUsers(@RequestParam("file") MultipartFile file,
+                                                        @RequestParam(value = "format", required = false) String format)
+            throws Exception {
+
+        log.info("importUsers Start!");
+
+        String fileFormat = CmmUtil.nvl(format).isEmpty()
+                ? UserImportService.detectFormat(file.getOriginalFilename(), file.getContentType()) : format;
+
+        log.info("file : {}, size : {}, format : {}", file.getOriginalFilename(), file.getSize(), fileFormat);
+
+        if (!"csv".equalsIgnoreCase(fileFormat) && !"ndjson".equalsIgnoreCase(fileFormat)) {
+            MsgDTO dto = MsgDTO.builder().result(0).msg("csv, ndjson 파일만 등록할 수 있습니다.").build();
+
+            return ResponseEntity.badRequest()
+                    .body(CommonResponse.of(HttpStatus.BAD_REQUEST, HttpStatus.BAD_REQUEST.series().name(), dto));
+        }
+
+        UserImportResultDTO rDTO;
+
+        try (InputStream in = file.getInputStream()) {
+            rDTO = userImportService.importUsers(in, fileFormat);
+
+        } catch (IllegalStateException e) {
+            MsgDTO dto = MsgDTO.builder().result(0).msg("회원 일괄 등록이 이미 실행 중입니다.").build();
+
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(CommonResponse.of(HttpStatus.CONFLICT, HttpStatus.CONFLICT.series().name(), dto));
+        }
+
+        log.info("importUsers End!");
+
+        return ResponseEntity.ok(
+                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rDTO));
+    }
+}
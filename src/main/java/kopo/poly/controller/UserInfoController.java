@@ -1,10 +1,8 @@
 package kopo.poly.controller;
 
-import jakarta.servlet.http.HttpSession;
+import kopo.poly.auth.CurrentUserProfile;
 import kopo.poly.controller.response.CommonResponse;
 import kopo.poly.dto.UserInfoDTO;
-import kopo.poly.service.IUserInfoService;
-import kopo.poly.util.CmmUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -22,24 +20,19 @@ import java.util.Optional;
 @RestController
 public class UserInfoController {
 
-    // 회원 서비스
-    private final IUserInfoService userInfoService;
+    // 로그인한 사용자의 회원정보
+    private final CurrentUserProfile currentUserProfile;
 
     @PostMapping(value = "userInfo")
-    public ResponseEntity<CommonResponse<UserInfoDTO>> userInfo(HttpSession session) throws Exception {
+    public ResponseEntity<CommonResponse<UserInfoDTO>> userInfo() throws Exception {
 
-        log.info("{}.userInfo Start!", this.getClass().getName());
+        log.info("userInfo Start!");
 
-        // Session 저장된 로그인한 회원아이디 가져오기
-        String userId = CmmUtil.nvl((String) session.getAttribute("SS_USER_ID"));
-
-        UserInfoDTO pDTO = UserInfoDTO.builder().userId(userId).build();
-
-        // 회원정보 조회하기
-        UserInfoDTO rDTO = Optional.ofNullable(userInfoService.getUserInfo(pDTO))
+        // 로그인한 회원아이디로 회원정보 조회하기
+        UserInfoDTO rDTO = Optional.ofNullable(currentUserProfile.get())
                 .orElseGet(() -> UserInfoDTO.builder().build());
 
-        log.info("{}.userInfo End!", this.getClass().getName());
+        log.info("userInfo End!");
 
         return ResponseEntity.ok(
                 CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rDTO));
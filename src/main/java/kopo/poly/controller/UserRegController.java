@@ -1,6 +1,7 @@
 package kopo.poly.controller;
 
 import jakarta.validation.Valid;
+import kopo.poly.auth.PasswordHashingRejectedException;
 import kopo.poly.auth.UserRole;
 import kopo.poly.controller.response.CommonResponse;
 import kopo.poly.dto.MsgDTO;
@@ -32,11 +33,11 @@ public class UserRegController {
     @PostMapping(value = "getUserIdExists")
     public ResponseEntity<CommonResponse<UserInfoDTO>> getUserIdExists(@RequestBody UserInfoDTO pDTO) throws Exception {
 
-        log.info("{}.getUserIdExists Start!", this.getClass().getName());
+        log.info("getUserIdExists Start!");
 
         UserInfoDTO rDTO = userInfoSsService.getUserIdExists(pDTO);
 
-        log.info("{}.getUserIdExists End!", this.getClass().getName());
+        log.info("getUserIdExists End!");
 
         return ResponseEntity.ok(
                 CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), rDTO));
@@ -46,7 +47,7 @@ public class UserRegController {
     public ResponseEntity<?> insertUserInfo(@Valid @RequestBody UserInfoDTO pDTO,
                                             BindingResult bindingResult) {
 
-        log.info("{}.insertUserInfo Start!", this.getClass().getName());
+        log.info("insertUserInfo Start!");
 
         if (bindingResult.hasErrors()) { // Spring Validation 맞춰 잘 바인딩되었는지 체크
             return CommonResponse.getErrors(bindingResult); // 유효성 검증 결과에 따른 에러 메시지 전달
@@ -56,6 +57,7 @@ public class UserRegController {
         int res = 0; // 회원가입 결과
         String msg = ""; //회원가입 결과에 대한 메시지를 전달할 변수
         MsgDTO dto; // 결과 메시지 구조
+        HttpStatus status = HttpStatus.OK; // 응답 상태 코드
 
         // 	 반드시, 값을 받았으면, 꼭 로그를 찍어서 값이 제대로 들어오는지 파악해야함, 반드시 작성할 것
         log.info("pDTO : {}", pDTO);
@@ -81,6 +83,12 @@ public class UserRegController {
 
             }
 
+        } catch (PasswordHashingRejectedException e) {
+            // 비밀번호 해시 작업이 밀려 처리할 수 없는 경우(잠시 후 다시 시도)
+            msg = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+            status = HttpStatus.SERVICE_UNAVAILABLE;
+            log.info(e.toString());
+
         } catch (Exception e) {
             //저장이 실패되면 사용자에게 보여줄 메시지
             msg = "실패하였습니다. : " + e;
@@ -90,11 +98,11 @@ public class UserRegController {
         } finally {
             dto = MsgDTO.builder().result(res).msg(msg).build();
 
-            log.info("{}.insertUserInfo End!", this.getClass().getName());
+            log.info("insertUserInfo End!");
         }
 
-        return ResponseEntity.ok(
-                CommonResponse.of(HttpStatus.OK, HttpStatus.OK.series().name(), dto));
+        return ResponseEntity.status(status)
+                .body(CommonResponse.of(status, status.series().name(), dto));
     }
 
 }
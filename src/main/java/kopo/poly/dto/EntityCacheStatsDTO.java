@@ -0,0 +1,29 @@
+package kopo.poly.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+/**
+ * Hibernate 2차 캐시 통계(서버 시작 또는 통계 초기화 이후 누적값)
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EntityCacheStatsDTO(
+        boolean statisticsEnabled, // 통계 수집 여부(hibernate.generate_statistics)
+        long secondLevelCacheHitCount, // 2차 캐시 적중 수(전체 영역)
+        long secondLevelCacheMissCount, // 2차 캐시 실패 수(전체 영역)
+        long secondLevelCachePutCount, // 2차 캐시 저장 수(전체 영역)
+        double secondLevelCacheHitRatio, // 2차 캐시 적중률(0 ~ 1)
+        long entityHitCount, // 회원 Entity 영역 적중 수
+        long entityMissCount, // 회원 Entity 영역 실패 수
+        long entityPutCount, // 회원 Entity 영역 저장 수
+        long entityElementCount, // 회원 Entity 영역 저장 건수(알 수 없으면 -1)
+        long queryCacheHitCount, // 조회 결과 캐시 적중 수
+        long queryCacheMissCount, // 조회 결과 캐시 실패 수
+        long queryCachePutCount, // 조회 결과 캐시 저장 수
+        double queryCacheHitRatio, // 조회 결과 캐시 적중률(0 ~ 1)
+        long queryExecutionCount, // DB 쿼리 실행 수
+        long entityLoadCount, // DB에서 읽은 Entity 수
+        String startDt // 통계 수집 시작 일시
+) {
+}
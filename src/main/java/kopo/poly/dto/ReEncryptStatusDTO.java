@@ -0,0 +1,22 @@
+package kopo.poly.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+/**
+ * 이메일 재암호화 작업 진행 상태
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReEncryptStatusDTO(
+        boolean running, // 실행 중 여부
+        int currentVersion, // 암호화 키 현재 버전
+        String lastUserId, // 마지막으로 처리한 회원아이디(중지 후 다시 시작하면 다음 회원부터 처리함)
+        long scanned, // 조회한 회원 수
+        long updated, // 재암호화한 회원 수
+        long conflicts, // 처리 중 이메일이 변경되어 건너뛴 회원 수
+        long failed, // 복호화 실패 등 오류 회원 수
+        String startDt, // 시작 일시
+        String endDt // 종료 일시
+) {
+}
@@ -0,0 +1,22 @@
+package kopo.poly.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+/**
+ * JWT 로그인 결과(security.jwt.enabled=true)
+ * - API 요청 시 Authorization: Bearer {accessToken} 헤더로 전달함
+ * - accessToken이 만료되면 refreshToken으로 다시 발급받음(/login/v1/refreshToken)
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenDTO(
+        String tokenType, // Bearer
+        String accessToken, // 인증 토큰(회원아이디, 이름, 권한 포함)
+        long expiresIn, // accessToken 만료까지 남은 시간(초)
+        String refreshToken, // 재발급 토큰
+        long refreshExpiresIn, // refreshToken 만료까지 남은 시간(초)
+        String userId, // 회원아이디
+        String userName // 회원이름
+) {
+}
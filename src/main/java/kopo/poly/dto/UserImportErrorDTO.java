@@ -0,0 +1,16 @@
+package kopo.poly.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+/**
+ * 회원 일괄 등록 실패 행
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserImportErrorDTO(
+        long line, // 파일의 행 번호(1부터 시작, CSV는 헤더 포함)
+        String userId, // 회원아이디(읽지 못한 경우 null)
+        String reason // 실패 사유
+) {
+}
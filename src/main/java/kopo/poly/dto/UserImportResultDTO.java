@@ -0,0 +1,22 @@
+package kopo.poly.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 회원 일괄 등록 결과
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserImportResultDTO(
+        long total, // 읽은 회원 수(빈 행, CSV 헤더 제외)
+        long inserted, // 등록된 회원 수
+        long duplicated, // 이미 가입되었거나 파일 안에서 중복된 아이디 수
+        long failed, // 유효성 검사, 암호화 등 오류로 등록되지 않은 회원 수
+        long elapsedMillis, // 처리 시간(ms)
+        List<UserImportErrorDTO> errors, // 실패 행(최대 user.import.max-errors 건)
+        boolean errorsTruncated // 실패 행이 많아 일부만 포함되었는지 여부
+) {
+}
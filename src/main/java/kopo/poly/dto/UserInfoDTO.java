@@ -5,9 +5,11 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import kopo.poly.repository.entity.UserInfoEntity;
+import kopo.poly.repository.view.UserProfileView;
 import kopo.poly.util.CmmUtil;
 import kopo.poly.util.DateUtil;
 import kopo.poly.util.EncryptUtil;
+import kopo.poly.util.MaskUtil;
 import lombok.Builder;
 
 import java.io.Serializable;
@@ -16,8 +18,9 @@ import java.io.Serializable;
  * 사용자 정보 DTO (Data Transfer Object)
  * - 클라이언트 ↔ 서버 간 데이터 전송을 위한 객체
  * - 회원가입, 로그인, 사용자 정보 조회 등에 활용됨
+ * - 로그 출력(toString) 시 비밀번호, 이메일은 마스킹됨
  */
-@Builder
+@Builder(toBuilder = true)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record UserInfoDTO(
 
@@ -60,30 +63,33 @@ public record UserInfoDTO(
 
     /**
      * 회원가입용 사용자 정보 생성 메서드
-     * - 비밀번호 암호화, 권한 설정, 등록일/수정일 자동 세팅
+     * - 비밀번호 암호화, 권한 설정, 등록일/수정일 자동 세팅(현재 시간은 한 번만 조회하여 함께 사용)
      */
     public static UserInfoDTO createUser(UserInfoDTO pDTO, String password, String roles) throws Exception {
+
+        String now = DateUtil.format(DateUtil.now());
+
         return UserInfoDTO.builder()
                 .userId(pDTO.userId())
                 .userName(pDTO.userName())
                 .password(password) // Spring Security로 암호화된 비밀번호 저장
-                .email(EncryptUtil.encAES128CBC(pDTO.email())) // 이메일 암호화 저장
+                .email(EncryptUtil.encField(pDTO.email())) // 이메일 암호화 저장(버전 형식)
                 .addr1(pDTO.addr1())
                 .addr2(pDTO.addr2())
                 .roles(roles) // 권한 설정
                 .regId(pDTO.userId())
-                .regDt(DateUtil.getDateTime("yyyy-MM-dd HH:mm:ss"))
+                .regDt(now)
                 .chgId(pDTO.userId())
-                .chgDt(DateUtil.getDateTime("yyyy-MM-dd HH:mm:ss"))
+                .chgDt(now)
                 .build();
     }
 
     /**
      * DTO → JPA Entity 변환 메서드
-     * - 데이터베이스에 저장할 때 사용됨
+     * - 데이터베이스에 새 회원을 저장할 때 사용됨(새 Entity로 표시됨)
      */
     public static UserInfoEntity of(UserInfoDTO dto) {
-        return UserInfoEntity.builder()
+        UserInfoEntity entity = UserInfoEntity.builder()
                 .userId(dto.userId())
                 .userName(dto.userName())
                 .password(dto.password())
@@ -92,10 +98,15 @@ public record UserInfoDTO(
                 .addr2(dto.addr2())
                 .roles(dto.roles())
                 .regId(dto.regId())
-                .regDt(dto.regDt())
+                .regDt(DateUtil.parse(dto.regDt()))
                 .chgId(dto.chgId())
-                .chgDt(dto.chgDt())
+                .chgDt(DateUtil.parse(dto.chgDt()))
                 .build();
+
+        // 새로 가입하는 회원이므로 save() 시 SELECT 없이 INSERT 함
+        entity.markNew();
+
+        return entity;
     }
 
     /**
@@ -107,14 +118,45 @@ public record UserInfoDTO(
                 .userId(entity.getUserId())
                 .userName(entity.getUserName())
                 .password(entity.getPassword())
-                .email(EncryptUtil.decAES128CBC(CmmUtil.nvl(entity.getEmail()))) // 복호화된 이메일 반환
+                .email(EncryptUtil.decField(CmmUtil.nvl(entity.getEmail()))) // 복호화된 이메일 반환(기존 형식, 버전 형식 모두 가능)
                 .addr1(entity.getAddr1())
                 .addr2(entity.getAddr2())
                 .roles(entity.getRoles())
                 .regId(entity.getRegId())
-                .regDt(entity.getRegDt())
+                .regDt(DateUtil.format(entity.getRegDt()))
                 .chgId(entity.getChgId())
-                .chgDt(entity.getChgDt())
+                .chgDt(DateUtil.format(entity.getChgDt()))
+                .build();
+    }
+
+    /**
+     * 회원정보 Projection → DTO 변환 메서드
+     * - 비밀번호는 조회하지 않으므로 포함되지 않음, 이메일은 복호화하여 제공
+     */
+    public static UserInfoDTO from(UserProfileView view) throws Exception {
+        return UserInfoDTO.builder()
+                .userId(view.userId())
+                .userName(view.userName())
+                .email(EncryptUtil.decField(CmmUtil.nvl(view.email()))) // 복호화된 이메일 반환(기존 형식, 버전 형식 모두 가능)
+                .addr1(view.addr1())
+                .addr2(view.addr2())
+                .roles(view.roles())
+                .regId(view.regId())
+                .regDt(DateUtil.format(view.regDt()))
+                .chgId(view.chgId())
+                .chgDt(DateUtil.format(view.chgDt()))
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그 출력용 문자열(비밀번호, 이메일 마스킹)
+     */
+    @Override
+    public String toString() {
+        return "UserInfoDTO[userId=" + userId + ", userName=" + userName
+                + ", password=" + MaskUtil.password(password) + ", email=" + MaskUtil.email(email)
+                + ", addr1=" + addr1 + ", addr2=" + addr2
+                + ", regId=" + regId + ", regDt=" + regDt + ", chgId=" + chgId + ", chgDt=" + chgDt
+                + ", roles=" + roles + ", existsYn=" + existsYn + "]";
+    }
+}
@@ -1,13 +1,27 @@
 package kopo.poly.repository;
 
+import jakarta.persistence.QueryHint;
 import kopo.poly.repository.entity.UserInfoEntity;
+import kopo.poly.repository.view.UserCredentialsView;
+import kopo.poly.repository.view.UserEmailView;
+import kopo.poly.repository.view.UserExistsView;
+import kopo.poly.repository.view.UserProfileView;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserInfoRepository extends JpaRepository<UserInfoEntity, String> {
+public interface UserInfoRepository extends JpaRepository<UserInfoEntity, String>, UserInfoRepositoryCustom {
 
     // 회원 정보 조회(회원정보 화면, 회원가입 여부 등 다양하게 활용됨)
     // java.util.Optional 객체는 자바의 NullPointer 에러에 대응하기 위해 1.8버전부터 추가된 자바 객체
@@ -15,9 +29,45 @@ public interface UserInfoRepository extends JpaRepository<UserInfoEntity, String
     // 쿼리 예 : SELECT * FROM USER_INFO WHERE USER_ID = 'hglee67'
     Optional<UserInfoEntity> findByUserId(String userId);
 
+    // 회원 존재 여부 확인(아이디 중복 체크, 회원가입)
+    // 쿼리 예 : SELECT USER_ID FROM USER_INFO WHERE USER_ID = 'hglee67'
+    Optional<UserExistsView> findExistsByUserId(String userId);
+
+    // 로그인 사용자 정보 조회(비밀번호 확인, 권한 부여에 필요한 컬럼만 조회)
+    // Query Cache는 서버별 메모리라 다른 서버의 회원가입, 비밀번호 변경이 바로 반영되지 않으므로 사용하지 않음(항상 DB 조회)
+    // 쿼리 예 : SELECT USER_ID, USER_NAME, PASSWORD, ROLES FROM USER_INFO WHERE USER_ID = 'hglee67'
+    Optional<UserCredentialsView> findCredentialsByUserId(String userId);
+
+    // 회원정보 화면 조회(비밀번호 제외)
+    // 쿼리 예 : SELECT USER_ID, USER_NAME, EMAIL, ADDR1, ADDR2, REG_ID, REG_DT, CHG_ID, CHG_DT, ROLES FROM USER_INFO WHERE USER_ID = 'hglee67'
+    Optional<UserProfileView> findProfileByUserId(String userId);
+
     // 로그인
     // 쿼리 예 : SELECT * FROM USER_INFO WHERE USER_ID = 'hglee67' AND PASSWORD = '1234'
     Optional<UserInfoEntity> findByUserIdAndPassword(String userId, String password);
 
+    // 이미 가입된 회원아이디 조회(회원 일괄 등록 시 중복 확인)
+    // 쿼리 예 : SELECT USER_ID FROM USER_INFO WHERE USER_ID IN ('hglee67', 'hglee68', ...)
+    @Query("SELECT u.userId FROM UserInfoEntity u WHERE u.userId IN :userIds")
+    List<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
+
+    // 전체 회원아이디 조회(아이디 중복 체크용 Bloom Filter 생성)
+    // 회원 수가 많아도 메모리에 모두 올리지 않도록 fetchSize 단위로 나눠 읽음(트랜잭션 안에서 사용하고 반드시 close 해야 함)
+    // 쿼리 예 : SELECT USER_ID FROM USER_INFO
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.userId FROM UserInfoEntity u")
+    Stream<String> streamAllUserIds();
+
+    // 회원아이디 순서로 userId 다음 회원부터 limit 건 조회(이메일 재암호화, Keyset 페이징)
+    // OFFSET 없이 PK 범위로 조회하므로 회원 수가 많아도 일정한 속도로 조회됨
+    // 쿼리 예 : SELECT USER_ID, EMAIL FROM USER_INFO WHERE USER_ID > 'hglee67' ORDER BY USER_ID LIMIT 500
+    List<UserEmailView> findByUserIdGreaterThanOrderByUserIdAsc(String userId, Limit limit);
+
+    // 비밀번호 변경(로그인 시 비밀번호 해시 형식 변경 등)
+    // 쿼리 예 : UPDATE USER_INFO SET PASSWORD = '{bcrypt}$2a$12$...' WHERE USER_ID = 'hglee67'
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserInfoEntity u SET u.password = :password WHERE u.userId = :userId")
+    int updatePassword(@Param("userId") String userId, @Param("password") String password);
+
 }
 
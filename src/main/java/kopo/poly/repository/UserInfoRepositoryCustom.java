@@ -0,0 +1,16 @@
+package kopo.poly.repository;
+
+import kopo.poly.repository.entity.UserInfoEntity;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA가 자동으로 만들 수 없는 저장 기능(UserInfoRepositoryCustomImpl에서 구현)
+ */
+public interface UserInfoRepositoryCustom {
+
+    // 새 회원 여러 명 저장(SELECT 없이 INSERT만 실행, JDBC batch로 전송)
+    // 트랜잭션 안에서 호출해야 함
+    void persistAll(List<UserInfoEntity> entities);
+
+}
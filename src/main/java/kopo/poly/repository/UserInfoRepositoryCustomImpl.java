@@ -0,0 +1,44 @@
+package kopo.poly.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kopo.poly.repository.entity.UserInfoEntity;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+
+import java.util.List;
+
+public class UserInfoRepositoryCustomImpl implements UserInfoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 새 회원 여러 명 저장
+     * <p>
+     * 새 Entity로 표시되지 않은 경우에도 merge(SELECT 후 INSERT) 없이 persist() 함
+     * - hibernate.jdbc.batch_size 건씩 묶어 INSERT 함
+     * - 저장 후 영속성 컨텍스트를 비워 대량 저장 시에도 메모리 사용량을 일정하게 유지함
+     * - 일괄 등록한 회원으로 2차 캐시가 채워져 자주 조회되는 회원이 밀려나지 않도록 2차 캐시에 저장하지 않음
+     */
+    @Override
+    public void persistAll(List<UserInfoEntity> entities) {
+
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+
+        session.setCacheMode(CacheMode.IGNORE);
+
+        try {
+            for (UserInfoEntity entity : entities) {
+                entityManager.persist(entity);
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+
+        } finally {
+            session.setCacheMode(cacheMode);
+        }
+    }
+}
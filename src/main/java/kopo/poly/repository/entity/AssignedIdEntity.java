@@ -0,0 +1,42 @@
+package kopo.poly.repository.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 아이디(PK)를 직접 지정하는 Entity의 신규 여부 관리
+ * <p>
+ * PK 값을 직접 넣는 Entity는 Spring Data JPA가 새 Entity인지 알 수 없어 save() 시 merge(SELECT 후 INSERT)를 실행함
+ * - markNew()가 호출된 Entity만 새 Entity로 판단하여 save() 시 SELECT 없이 persist(INSERT) 함
+ * - DB에서 조회(@PostLoad)되거나 저장(@PostPersist)된 후에는 기존 Entity로 판단함
+ * - markNew()를 호출하지 않은 Entity는 기존처럼 merge 되므로 기존 회원을 덮어쓰는 경우에도 안전함
+ *
+ * @param <ID> 아이디(PK) 타입
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity<ID> implements Persistable<ID> {
+
+    @Transient
+    private boolean isNew = false;
+
+    /**
+     * 새 Entity로 표시(DB에 없는 값으로 만든 경우 호출)
+     */
+    public void markNew() {
+        this.isNew = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,27 @@
+package kopo.poly.repository.entity;
+
+import jakarta.persistence.AttributeConverter;
+import kopo.poly.util.DateUtil;
+
+import java.time.LocalDateTime;
+
+/**
+ * 등록일시, 수정일시(LocalDateTime) ↔ 문자열 컬럼 변환
+ * <p>
+ * 기존 DB는 reg_dt, chg_dt를 문자열(yyyy-MM-dd HH:mm:ss)로 저장하므로 DATETIME 컬럼으로 변경하기 전까지 사용함
+ * - 저장 : yyyy-MM-dd HH:mm:ss 형식으로 저장(기존 데이터와 같은 형식)
+ * - 조회 : 기존 문자열(yyyy.MM.dd, 날짜만 있는 값 등)도 변환함(DateUtil.parse)
+ * - jpa.legacy-date-column=true인 경우 JpaConfig에서 모든 LocalDateTime 속성에 자동 적용함
+ */
+public class LegacyDateTimeConverter implements AttributeConverter<LocalDateTime, String> {
+
+    @Override
+    public String convertToDatabaseColumn(LocalDateTime attribute) {
+        return DateUtil.format(attribute);
+    }
+
+    @Override
+    public LocalDateTime convertToEntityAttribute(String dbData) {
+        return DateUtil.parse(dbData);
+    }
+}
@@ -2,9 +2,13 @@ package kopo.poly.repository.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -13,8 +17,12 @@ import org.hibernate.annotations.DynamicUpdate;
 @DynamicUpdate
 @Builder
 @Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = UserInfoEntity.CACHE_REGION) // 2차 캐시 저장 영역(application.conf)
 @Entity
-public class UserInfoEntity {
+public class UserInfoEntity extends AssignedIdEntity<String> {
+
+    // 2차 캐시 영역 이름
+    public static final String CACHE_REGION = "userInfo";
 
     @Id
     @Column(name = "user_id")
@@ -25,7 +33,7 @@ public class UserInfoEntity {
     private String userName;
 
     @NonNull
-    @Column(name = "password", length = 1, nullable = false)
+    @Column(name = "password", length = 100, nullable = false) // {bcrypt}, {pbkdf2} 접두어 포함 해시 값
     private String password;
 
     @NonNull
@@ -42,16 +50,21 @@ public class UserInfoEntity {
     @Column(name = "reg_id", updatable = false)
     private String regId;
 
-    @Column(name = "reg_dt", updatable = false)
-    private String regDt;
+    @Column(name = "reg_dt", updatable = false) // 기존 문자열 컬럼은 LegacyDateTimeConverter로 변환(JpaConfig)
+    private LocalDateTime regDt;
 
     @Column(name = "chg_id")
     private String chgId;
 
     @Column(name = "chg_dt")
-    private String chgDt;
+    private LocalDateTime chgDt;
 
     @Column(name = "roles") //권한 데이터는 ,를 구분자로 여러 개(예 : 관리자, 일반사용자) 정의 가능함
     private String roles;
 
+    @Override
+    public String getId() {
+        return userId;
+    }
+
 }
@@ -0,0 +1,14 @@
+package kopo.poly.repository.view;
+
+/**
+ * 로그인(loadUserByUsername)용 Projection
+ * - 비밀번호 확인, 권한 부여에 필요한 컬럼만 조회함(이메일 등은 조회, 복호화하지 않음)
+ * - record(DTO)로 조회하므로 영속성 컨텍스트에 저장되지 않음(변경 감지, 스냅샷 생성 없음)
+ *
+ * @param userId   회원아이디
+ * @param userName 회원이름
+ * @param password 비밀번호 해시
+ * @param roles    권한(,로 구분)
+ */
+public record UserCredentialsView(String userId, String userName, String password, String roles) {
+}
@@ -0,0 +1,12 @@
+package kopo.poly.repository.view;
+
+/**
+ * 회원아이디, 이메일(암호문)만 조회하기 위한 Projection
+ * - 이메일 재암호화 작업에서 필요한 컬럼만 조회함
+ */
+public interface UserEmailView {
+
+    String getUserId();
+
+    String getEmail();
+}
@@ -0,0 +1,10 @@
+package kopo.poly.repository.view;
+
+/**
+ * 회원 존재 여부 확인용 Projection
+ * - 회원아이디(PK)만 조회하므로 테이블을 읽지 않고 PK 인덱스만으로 처리됨
+ */
+public interface UserExistsView {
+
+    String getUserId();
+}
@@ -0,0 +1,15 @@
+package kopo.poly.repository.view;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원정보 화면(/user/v1/userInfo)용 Projection
+ * - 비밀번호를 제외한 회원정보만 조회함
+ * - record(DTO)로 조회하므로 영속성 컨텍스트에 저장되지 않음(변경 감지, 스냅샷 생성 없음)
+ *
+ * @param email 이메일(암호문, UserInfoDTO 변환 시 복호화함)
+ */
+public record UserProfileView(String userId, String userName, String email, String addr1, String addr2,
+                              String regId, LocalDateTime regDt, String chgId, LocalDateTime chgDt,
+                              String roles) {
+}
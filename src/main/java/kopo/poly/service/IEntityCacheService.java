@@ -0,0 +1,16 @@
+package kopo.poly.service;
+
+import kopo.poly.dto.EntityCacheStatsDTO;
+
+public interface IEntityCacheService {
+
+    // Hibernate 2차 캐시 통계
+    EntityCacheStatsDTO getStats();
+
+    // 2차 캐시, 조회 결과 캐시 전체 삭제(DB를 직접 수정한 경우 등)
+    void evictAll();
+
+    // 통계 초기화
+    void clearStats();
+
+}
@@ -0,0 +1,16 @@
+package kopo.poly.service;
+
+import kopo.poly.dto.ReEncryptStatusDTO;
+
+public interface IFieldReEncryptService {
+
+    // 이메일 재암호화 작업 시작(이미 실행 중이면 false)
+    boolean start();
+
+    // 이메일 재암호화 작업 중지 요청
+    void stop();
+
+    // 이메일 재암호화 작업 진행 상태
+    ReEncryptStatusDTO getStatus();
+
+}
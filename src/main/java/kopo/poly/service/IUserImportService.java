@@ -0,0 +1,12 @@
+package kopo.poly.service;
+
+import kopo.poly.dto.UserImportResultDTO;
+
+import java.io.InputStream;
+
+public interface IUserImportService {
+
+    // 회원 일괄 등록(format : csv, ndjson), 이미 실행 중이면 IllegalStateException
+    UserImportResultDTO importUsers(InputStream in, String format) throws Exception;
+
+}
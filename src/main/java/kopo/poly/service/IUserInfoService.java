@@ -1,9 +1,14 @@
 package kopo.poly.service;
 
 import kopo.poly.dto.UserInfoDTO;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
-public interface IUserInfoService extends UserDetailsService {
+/**
+ * UserDetailsService : 로그인 사용자 조회
+ * UserDetailsPasswordService : 비밀번호 암호화 알고리즘, 강도가 바뀐 경우 로그인 성공 시 새 형식으로 다시 저장
+ */
+public interface IUserInfoService extends UserDetailsService, UserDetailsPasswordService {
 
 
     // 아이디 중복 체크
@@ -15,5 +20,8 @@ public interface IUserInfoService extends UserDetailsService {
     // 본인 회원 정보 조회
     UserInfoDTO getUserInfo(UserInfoDTO pDTO) throws Exception;
 
+    // 아이디 중복 체크용 Bloom Filter 다시 만들기(등록된 아이디 수 반환)
+    long rebuildUserIdFilter();
+
 }
 
@@ -0,0 +1,87 @@
+package kopo.poly.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import kopo.poly.dto.EntityCacheStatsDTO;
+import kopo.poly.repository.entity.UserInfoEntity;
+import kopo.poly.service.IEntityCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Hibernate 2차 캐시(UserInfoEntity), 조회 결과 캐시(Query Cache) 관리
+ */
+@Slf4j
+@Service
+public class EntityCacheService implements IEntityCacheService {
+
+    private final SessionFactory sessionFactory;
+
+    public EntityCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @Override
+    public EntityCacheStatsDTO getStats() {
+
+        Statistics stats = sessionFactory.getStatistics();
+
+        long hit = stats.getSecondLevelCacheHitCount();
+        long miss = stats.getSecondLevelCacheMissCount();
+        long queryHit = stats.getQueryCacheHitCount();
+        long queryMiss = stats.getQueryCacheMissCount();
+
+        EntityCacheStatsDTO.EntityCacheStatsDTOBuilder builder = EntityCacheStatsDTO.builder()
+                .statisticsEnabled(stats.isStatisticsEnabled())
+                .secondLevelCacheHitCount(hit)
+                .secondLevelCacheMissCount(miss)
+                .secondLevelCachePutCount(stats.getSecondLevelCachePutCount())
+                .secondLevelCacheHitRatio(ratio(hit, miss))
+                .queryCacheHitCount(queryHit)
+                .queryCacheMissCount(queryMiss)
+                .queryCachePutCount(stats.getQueryCachePutCount())
+                .queryCacheHitRatio(ratio(queryHit, queryMiss))
+                .queryExecutionCount(stats.getQueryExecutionCount())
+                .entityLoadCount(stats.getEntityLoadCount())
+                .startDt(LocalDateTime.ofInstant(stats.getStart(), ZoneId.systemDefault())
+                        .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+
+        // 2차 캐시를 사용하지 않는 경우(use_second_level_cache: false) 영역 통계는 없음
+        if (sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            CacheRegionStatistics region = stats.getDomainDataRegionStatistics(UserInfoEntity.CACHE_REGION);
+
+            builder.entityHitCount(region.getHitCount())
+                    .entityMissCount(region.getMissCount())
+                    .entityPutCount(region.getPutCount())
+                    .entityElementCount(region.getElementCountInMemory());
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public void evictAll() {
+
+        log.info("evictAll Start!");
+
+        sessionFactory.getCache().evictEntityData(UserInfoEntity.class);
+        sessionFactory.getCache().evictDefaultQueryRegion();
+
+        log.info("evictAll End!");
+    }
+
+    @Override
+    public void clearStats() {
+        sessionFactory.getStatistics().clear();
+    }
+
+    private static double ratio(long hit, long miss) {
+        return hit + miss == 0 ? 0 : (double) hit / (hit + miss);
+    }
+}
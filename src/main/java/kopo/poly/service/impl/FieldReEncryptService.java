@@ -0,0 +1,242 @@
+package kopo.poly.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import kopo.poly.dto.ReEncryptStatusDTO;
+import kopo.poly.repository.UserInfoRepository;
+import kopo.poly.repository.entity.UserInfoEntity;
+import kopo.poly.repository.view.UserEmailView;
+import kopo.poly.service.IFieldReEncryptService;
+import kopo.poly.util.CmmUtil;
+import kopo.poly.util.DateUtil;
+import kopo.poly.util.EncryptUtil;
+import kopo.poly.util.FieldEnvelopeCipher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이메일(USER_INFO.email) 재암호화 작업
+ * <p>
+ * 기존 AES CBC 형식 또는 이전 버전 키로 암호화된 이메일을 현재 버전 키로 다시 암호화함
+ * - 회원아이디(PK) 순서로 batch-size 건씩 Keyset 페이징 조회하므로 회원 수가 많아도 조회 속도가 일정함
+ * - batch 단위로 짧은 트랜잭션을 사용하고 해당 행만 수정하므로 테이블 전체를 잠그지 않음
+ * - 조회 후 이메일이 변경된 회원은 수정하지 않음(WHERE email = 조회 당시 값)
+ * - rows-per-second로 처리 속도를 제한하여 업무 시간에도 실행할 수 있음
+ * - JDBC로 직접 수정하므로 수정한 회원은 Hibernate 2차 캐시에서 삭제함
+ */
+@Slf4j
+@Service
+public class FieldReEncryptService implements IFieldReEncryptService {
+
+    // 조회 당시 이메일과 같을 때만 수정함(처리 중 회원이 이메일을 변경한 경우 덮어쓰지 않음)
+    private static final String UPDATE_SQL = "UPDATE USER_INFO SET email = ? WHERE user_id = ? AND email = ?";
+
+    private final UserInfoRepository userInfoRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TaskExecutor taskExecutor;
+
+    private final FieldEnvelopeCipher fieldEnvelopeCipher;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final int batchSize;
+
+    private final int rowsPerSecond;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private volatile boolean stopRequested = false;
+
+    // 마지막으로 처리한 회원아이디(다음 batch 조회 시작 위치)
+    private volatile String lastUserId = "";
+
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile String startDt;
+    private volatile String endDt;
+
+    public FieldReEncryptService(UserInfoRepository userInfoRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 TaskExecutor taskExecutor,
+                                 FieldEnvelopeCipher fieldEnvelopeCipher,
+                                 EntityManagerFactory entityManagerFactory,
+                                 @Value("${crypto.reencrypt.batch-size:500}") int batchSize,
+                                 @Value("${crypto.reencrypt.rows-per-second:2000}") int rowsPerSecond) {
+
+        this.userInfoRepository = userInfoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.fieldEnvelopeCipher = fieldEnvelopeCipher;
+        this.entityManagerFactory = entityManagerFactory;
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("crypto.reencrypt.batch-size must be greater than 0 : " + batchSize);
+        }
+
+        if (rowsPerSecond < 0) {
+            throw new IllegalArgumentException("crypto.reencrypt.rows-per-second must be 0 or greater : " + rowsPerSecond);
+        }
+
+        this.batchSize = batchSize;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    @Override
+    public boolean start() {
+
+        log.info("start Start!");
+
+        if (!running.compareAndSet(false, true)) {
+            log.info("재암호화 작업이 이미 실행 중입니다.");
+            return false;
+        }
+
+        stopRequested = false;
+        startDt = DateUtil.getDateTime(DateUtil.DATE_TIME_FORMAT);
+        endDt = null;
+
+        taskExecutor.execute(this::run);
+
+        log.info("start End!");
+
+        return true;
+    }
+
+    @Override
+    public void stop() {
+
+        log.info("stop Start!");
+
+        stopRequested = true;
+
+        log.info("stop End!");
+    }
+
+    @Override
+    public ReEncryptStatusDTO getStatus() {
+        return ReEncryptStatusDTO.builder()
+                .running(running.get())
+                .currentVersion(fieldEnvelopeCipher.getCurrentVersion())
+                .lastUserId(lastUserId)
+                .scanned(scanned.get())
+                .updated(updated.get())
+                .conflicts(conflicts.get())
+                .failed(failed.get())
+                .startDt(startDt)
+                .endDt(endDt)
+                .build();
+    }
+
+    /**
+     * 재암호화 작업 실행(백그라운드 스레드)
+     */
+    private void run() {
+
+        log.info("run Start! lastUserId : {}", lastUserId);
+
+        try {
+            while (!stopRequested) {
+
+                long begin = System.currentTimeMillis();
+
+                List<UserEmailView> rList = userInfoRepository.findByUserIdGreaterThanOrderByUserIdAsc(
+                        lastUserId, Limit.of(batchSize));
+
+                if (rList.isEmpty()) {
+                    // 모든 회원 처리 완료 → 다음 실행은 처음부터 다시 확인함
+                    lastUserId = "";
+                    break;
+                }
+
+                reEncryptBatch(rList);
+
+                lastUserId = rList.get(rList.size() - 1).getUserId();
+                scanned.addAndGet(rList.size());
+
+                // 초당 처리 건수 제한(0이면 제한 없음)
+                if (rowsPerSecond > 0) {
+                    long sleepMillis = rList.size() * 1000L / rowsPerSecond - (System.currentTimeMillis() - begin);
+
+                    if (sleepMillis > 0) {
+                        Thread.sleep(sleepMillis);
+                    }
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+        } catch (Exception e) {
+            log.error("re-encrypt error", e);
+
+        } finally {
+            endDt = DateUtil.getDateTime(DateUtil.DATE_TIME_FORMAT);
+            running.set(false);
+        }
+
+        log.info("run End! status : {}", getStatus());
+    }
+
+    /**
+     * batch 단위 재암호화(하나의 트랜잭션, JDBC batch update로 실행)
+     */
+    private void reEncryptBatch(List<UserEmailView> rList) {
+
+        List<Object[]> pList = new ArrayList<>();
+
+        for (UserEmailView rView : rList) {
+
+            String email = CmmUtil.nvl(rView.getEmail());
+
+            // 이메일이 없는(NULL, 빈 문자열) 회원은 재암호화 대상이 아님(복호화 실패로 집계되지 않도록 먼저 제외)
+            if (email.isEmpty() || !EncryptUtil.needsReEncrypt(email)) {
+                continue;
+            }
+
+            try {
+                pList.add(new Object[]{EncryptUtil.encField(EncryptUtil.decField(email)), rView.getUserId(), email});
+
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                log.warn("re-encrypt failed userId : {}, error : {}", rView.getUserId(), e.toString());
+            }
+        }
+
+        if (pList.isEmpty()) {
+            return;
+        }
+
+        int[] res = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, pList));
+
+        for (int i = 0; i < res.length; i++) {
+            if (res[i] == 0) {
+                conflicts.incrementAndGet();
+
+            } else {
+                updated.incrementAndGet(); // 드라이버에 따라 성공 시 SUCCESS_NO_INFO(-2)가 반환될 수 있음
+
+                // 2차 캐시에 이전 암호문이 남아있지 않도록 삭제
+                entityManagerFactory.getCache().evict(UserInfoEntity.class, pList.get(i)[1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,552 @@
+package kopo.poly.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import kopo.poly.auth.PasswordHashingRejectedException;
+import kopo.poly.auth.UserRole;
+import kopo.poly.cache.UserDetailsCache;
+import kopo.poly.cache.UserIdBloomFilter;
+import kopo.poly.dto.UserImportErrorDTO;
+import kopo.poly.dto.UserImportResultDTO;
+import kopo.poly.dto.UserInfoDTO;
+import kopo.poly.repository.UserInfoRepository;
+import kopo.poly.service.IUserImportService;
+import kopo.poly.util.CmmUtil;
+import kopo.poly.util.DateUtil;
+import kopo.poly.util.DbErrorUtil;
+import kopo.poly.util.EncryptUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 일괄 등록(제휴 시스템 회원 이전 등)
+ * <p>
+ * 파일을 한 행씩 읽어 chunk-size 건 단위로 처리하므로 회원 수가 많아도 메모리 사용량이 일정함
+ * - 유효성 검사 : 회원가입(UserRegController)과 같은 UserInfoDTO 제약 조건 사용
+ * - 비밀번호 : hash-parallelism 개의 스레드로 나눠 해시함(PasswordHashingExecutor 사용, 로그인 처리 몫을 남겨둠)
+ * - 이메일 : chunk 단위로 한 번에 암호화함(EncryptUtil.encFieldAll)
+ * - 저장 : chunk 단위 트랜잭션, hibernate.jdbc.batch_size 건씩 JDBC batch INSERT
+ * - 오류가 있는 행은 건너뛰고 결과(errors)로 알려주며, 나머지 행은 계속 등록함
+ * <p>
+ * 파일 형식
+ * - csv : 첫 행은 헤더(userId,userName,password,email,addr1,addr2), 값에 ,가 있으면 "로 감쌈(여러 행에 걸친 값은 지원하지 않음)
+ * - ndjson : 한 행에 회원 1명의 JSON({"userId":"hglee67","userName":"이협건",...})
+ */
+@Slf4j
+@Service
+public class UserImportService implements IUserImportService, DisposableBean {
+
+    // CSV 헤더 이름
+    private static final List<String> CSV_COLUMNS = List.of("userId", "userName", "password", "email", "addr1", "addr2");
+
+    // 비밀번호 해시 작업이 밀린 경우 재시도 횟수
+    private static final int HASH_RETRY = 3;
+
+    private final UserInfoRepository userInfoRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final Validator validator;
+
+    private final ObjectMapper objectMapper;
+
+    private final UserIdBloomFilter userIdBloomFilter;
+
+    private final UserDetailsCache userDetailsCache;
+
+    // 비밀번호 해시 요청 스레드(동시에 요청하는 해시 작업 수 제한)
+    private final ExecutorService hashRequestExecutor;
+
+    private final int chunkSize;
+
+    private final int maxErrors;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public UserImportService(UserInfoRepository userInfoRepository,
+                             PlatformTransactionManager transactionManager,
+                             PasswordEncoder passwordEncoder,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             UserIdBloomFilter userIdBloomFilter,
+                             UserDetailsCache userDetailsCache,
+                             @Value("${user.import.chunk-size:1000}") int chunkSize,
+                             @Value("${user.import.hash-parallelism:0}") int hashParallelism,
+                             @Value("${user.import.max-errors:1000}") int maxErrors) {
+
+        this.userInfoRepository = userInfoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.userIdBloomFilter = userIdBloomFilter;
+        this.userDetailsCache = userDetailsCache;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+
+        // 0 : CPU 코어 수의 절반(나머지는 로그인, 회원가입 해시 작업용)
+        int threads = hashParallelism > 0 ? hashParallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.hashRequestExecutor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "user-import-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        log.info("chunkSize : {}, hashParallelism : {}", chunkSize, threads);
+    }
+
+    @Override
+    public UserImportResultDTO importUsers(InputStream in, String format) throws Exception {
+
+        log.info("importUsers Start! format : {}", format);
+
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+
+        if (!ndjson && !"csv".equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("unsupported format : " + format);
+        }
+
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("user import is already running");
+        }
+
+        long begin = System.currentTimeMillis();
+        Result result = new Result(maxErrors);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+
+            Set<String> seen = new HashSet<>(); // 파일 안에서 중복된 아이디 확인
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            Map<String, Integer> header = null;
+
+            String line;
+            long lineNo = 0;
+
+            while ((line = reader.readLine()) != null) {
+
+                lineNo++;
+
+                if (lineNo == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') { // UTF-8 BOM 제거
+                    line = line.substring(1);
+                }
+
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                if (!ndjson && header == null) {
+                    header = parseHeader(line);
+                    continue;
+                }
+
+                result.total++;
+
+                UserInfoDTO pDTO;
+
+                try {
+                    pDTO = ndjson ? objectMapper.readValue(line, UserInfoDTO.class) : parseCsv(line, header);
+
+                } catch (Exception e) {
+                    result.fail(lineNo, null, "읽을 수 없는 행입니다. : " + e.getMessage());
+                    continue;
+                }
+
+                Set<ConstraintViolation<UserInfoDTO>> violations = validator.validate(pDTO);
+
+                if (!violations.isEmpty()) {
+                    result.fail(lineNo, pDTO.userId(), violations.stream()
+                            .map(ConstraintViolation::getMessage)
+                            .sorted()
+                            .collect(Collectors.joining(", ")));
+                    continue;
+                }
+
+                if (!seen.add(pDTO.userId())) {
+                    result.duplicate(lineNo, pDTO.userId(), "파일 안에서 중복된 아이디입니다.");
+                    continue;
+                }
+
+                chunk.add(new Row(lineNo, pDTO));
+
+                if (chunk.size() >= chunkSize) {
+                    processChunk(chunk, result);
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, result);
+            }
+
+        } finally {
+            running.set(false);
+        }
+
+        UserImportResultDTO rDTO = UserImportResultDTO.builder()
+                .total(result.total)
+                .inserted(result.inserted)
+                .duplicated(result.duplicated)
+                .failed(result.failed)
+                .elapsedMillis(System.currentTimeMillis() - begin)
+                .errors(result.errors)
+                .errorsTruncated(result.truncated)
+                .build();
+
+        log.info("importUsers End! total : {}, inserted : {}, duplicated : {}, failed : {}, elapsed : {}ms",
+                rDTO.total(), rDTO.inserted(), rDTO.duplicated(), rDTO.failed(),
+                rDTO.elapsedMillis());
+
+        return rDTO;
+    }
+
+    /**
+     * chunk 단위 등록(가입 여부 확인 → 비밀번호 해시 → 이메일 암호화 → 저장)
+     */
+    private void processChunk(List<Row> chunk, Result result) {
+
+        // 1. 이미 가입된 아이디 제외(chunk 당 쿼리 1번)
+        // 쿼리 예 : SELECT USER_ID FROM USER_INFO WHERE USER_ID IN (...)
+        Set<String> existing = new HashSet<>(userInfoRepository.findExistingUserIds(
+                chunk.stream().map(row -> row.dto().userId()).toList()));
+
+        List<Row> rows = new ArrayList<>(chunk.size());
+
+        for (Row row : chunk) {
+            if (existing.contains(row.dto().userId())) {
+                userIdBloomFilter.put(row.dto().userId());
+                result.duplicate(row.line(), row.dto().userId(), "이미 가입된 아이디입니다.");
+
+            } else {
+                rows.add(row);
+            }
+        }
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // 2. 비밀번호 해시(여러 스레드에서 나눠 실행)
+        List<CompletableFuture<String>> futures = rows.stream()
+                .map(row -> CompletableFuture.supplyAsync(() -> encodePassword(row.dto().password()), hashRequestExecutor))
+                .toList();
+
+        List<Row> hashed = new ArrayList<>(rows.size());
+        List<String> passwords = new ArrayList<>(rows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            try {
+                passwords.add(futures.get(i).join());
+                hashed.add(rows.get(i));
+
+            } catch (CompletionException e) {
+                result.fail(rows.get(i).line(), rows.get(i).dto().userId(), "비밀번호 암호화 실패 : " + e.getCause());
+            }
+        }
+
+        if (hashed.isEmpty()) {
+            return;
+        }
+
+        // 3. 이메일 암호화(chunk 단위로 한 번에 처리)
+        List<String> emails;
+
+        try {
+            emails = EncryptUtil.encFieldAll(hashed.stream().map(row -> row.dto().email()).toList());
+
+        } catch (Exception e) {
+            log.error("user import email encrypt error", e);
+            hashed.forEach(row -> result.fail(row.line(), row.dto().userId(), "이메일 암호화 실패 : " + e));
+            return;
+        }
+
+        // 4. 저장할 회원정보 생성(같은 chunk는 같은 등록 일시 사용)
+        String now = DateUtil.format(DateUtil.now());
+        List<UserInfoDTO> nList = new ArrayList<>(hashed.size());
+
+        for (int i = 0; i < hashed.size(); i++) {
+            UserInfoDTO pDTO = hashed.get(i).dto();
+
+            nList.add(UserInfoDTO.builder()
+                    .userId(pDTO.userId())
+                    .userName(pDTO.userName())
+                    .password(passwords.get(i))
+                    .email(emails.get(i))
+                    .addr1(pDTO.addr1())
+                    .addr2(pDTO.addr2())
+                    .roles(UserRole.USER.getValue())
+                    .regId(pDTO.userId())
+                    .regDt(now)
+                    .chgId(pDTO.userId())
+                    .chgDt(now)
+                    .build());
+        }
+
+        // 5. 저장(chunk 단위 트랜잭션), 실패하면 실패한 행을 찾기 위해 1건씩 다시 저장함
+        try {
+            transactionTemplate.executeWithoutResult(status -> userInfoRepository.persistAll(
+                    nList.stream().map(UserInfoDTO::of).toList()));
+
+            for (int i = 0; i < hashed.size(); i++) {
+                inserted(hashed.get(i), result);
+            }
+
+        } catch (DataAccessException e) {
+            log.warn("user import chunk failed, retry one by one : {}", e.toString());
+
+            for (int i = 0; i < hashed.size(); i++) {
+                persistOne(hashed.get(i), nList.get(i), result);
+            }
+        }
+    }
+
+    private void persistOne(Row row, UserInfoDTO nDTO, Result result) {
+
+        try {
+            // 실패한 트랜잭션의 Entity는 재사용하지 않고 새로 만듦
+            transactionTemplate.executeWithoutResult(status -> userInfoRepository.persistAll(List.of(UserInfoDTO.of(nDTO))));
+            inserted(row, result);
+
+        } catch (DataIntegrityViolationException e) {
+
+            if (DbErrorUtil.isDuplicateKey(e)) {
+                // 파일을 읽는 중 다른 요청으로 가입된 아이디
+                userIdBloomFilter.put(row.dto().userId());
+                result.duplicate(row.line(), row.dto().userId(), "이미 가입된 아이디입니다.");
+
+            } else {
+                result.fail(row.line(), row.dto().userId(), "저장 실패 : " + e.getMostSpecificCause().getMessage());
+            }
+
+        } catch (DataAccessException e) {
+            result.fail(row.line(), row.dto().userId(), "저장 실패 : " + e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private void inserted(Row row, Result result) {
+
+        result.inserted++;
+
+        // 회원가입(insertUserInfo)과 같이 로그인 캐시 삭제, 아이디 중복 체크용 Bloom Filter에 추가
+        userDetailsCache.evict(row.dto().userId());
+        userIdBloomFilter.put(row.dto().userId());
+    }
+
+    /**
+     * 비밀번호 해시(로그인이 몰려 해시 작업이 거절되면 잠시 후 다시 시도함)
+     */
+    private String encodePassword(String password) {
+
+        for (int i = 1; ; i++) {
+            try {
+                return passwordEncoder.encode(password);
+
+            } catch (PasswordHashingRejectedException e) {
+                if (i >= HASH_RETRY) {
+                    throw e;
+                }
+
+                try {
+                    Thread.sleep(100L * i);
+
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * CSV 헤더 읽기(컬럼 이름 → 위치)
+     */
+    private static Map<String, Integer> parseHeader(String line) {
+
+        List<String> names = splitCsv(line);
+        Map<String, Integer> header = new HashMap<>();
+
+        for (int i = 0; i < names.size(); i++) {
+            for (String column : CSV_COLUMNS) {
+                if (column.equalsIgnoreCase(names.get(i).trim())) {
+                    header.put(column, i);
+                }
+            }
+        }
+
+        if (!header.containsKey("userId")) {
+            throw new IllegalArgumentException("CSV header must contain " + CSV_COLUMNS);
+        }
+
+        return header;
+    }
+
+    private static UserInfoDTO parseCsv(String line, Map<String, Integer> header) {
+
+        List<String> values = splitCsv(line);
+
+        return UserInfoDTO.builder()
+                .userId(csvValue(values, header, "userId"))
+                .userName(csvValue(values, header, "userName"))
+                .password(csvValue(values, header, "password"))
+                .email(csvValue(values, header, "email"))
+                .addr1(csvValue(values, header, "addr1"))
+                .addr2(csvValue(values, header, "addr2"))
+                .build();
+    }
+
+    private static String csvValue(List<String> values, Map<String, Integer> header, String column) {
+
+        Integer idx = header.get(column);
+
+        return idx == null || idx >= values.size() ? null : CmmUtil.nvl(values.get(idx)).trim();
+    }
+
+    /**
+     * CSV 한 행을 값 목록으로 나누기(""로 감싼 값, 값 안의 "" → ")
+     */
+    static List<String> splitCsv(String line) {
+
+        List<String> values = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        sb.append('"');
+                        i++;
+
+                    } else {
+                        quoted = false;
+                    }
+
+                } else {
+                    sb.append(c);
+                }
+
+            } else if (c == '"') {
+                quoted = true;
+
+            } else if (c == ',') {
+                values.add(sb.toString());
+                sb.setLength(0);
+
+            } else {
+                sb.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted value");
+        }
+
+        values.add(sb.toString());
+
+        return values;
+    }
+
+    /**
+     * 파일 확장자, Content-Type으로 파일 형식 판단(csv, ndjson), 알 수 없으면 null
+     */
+    public static String detectFormat(String fileName, String contentType) {
+
+        String name = CmmUtil.nvl(fileName).toLowerCase(Locale.ROOT);
+        String type = CmmUtil.nvl(contentType).toLowerCase(Locale.ROOT);
+
+        if (name.endsWith(".csv") || type.startsWith("text/csv")) {
+            return "csv";
+        }
+
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || type.contains("ndjson")) {
+            return "ndjson";
+        }
+
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        hashRequestExecutor.shutdownNow();
+    }
+
+    /**
+     * 파일의 한 행(행 번호, 회원정보)
+     */
+    private record Row(long line, UserInfoDTO dto) {
+    }
+
+    /**
+     * 처리 결과 집계(한 번에 1개의 등록 작업만 실행되므로 동기화하지 않음)
+     */
+    private static final class Result {
+
+        private final int maxErrors;
+
+        private final List<UserImportErrorDTO> errors = new ArrayList<>();
+
+        private long total;
+        private long inserted;
+        private long duplicated;
+        private long failed;
+        private boolean truncated;
+
+        private Result(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(long line, String userId, String reason) {
+            failed++;
+            addError(line, userId, reason);
+        }
+
+        private void duplicate(long line, String userId, String reason) {
+            duplicated++;
+            addError(line, userId, reason);
+        }
+
+        private void addError(long line, String userId, String reason) {
+
+            if (errors.size() >= maxErrors) {
+                truncated = true;
+                return;
+            }
+
+            errors.add(UserImportErrorDTO.builder().line(line).userId(userId).reason(reason).build());
+        }
+    }
+}
@@ -1,18 +1,34 @@
 package kopo.poly.service.impl;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kopo.poly.auth.AuthInfo;
+import kopo.poly.auth.LoginAttemptStore;
+import kopo.poly.cache.UserDetailsCache;
+import kopo.poly.cache.UserIdBloomFilter;
+import kopo.poly.cache.UserInfoCache;
 import kopo.poly.dto.UserInfoDTO;
 import kopo.poly.repository.UserInfoRepository;
 import kopo.poly.repository.entity.UserInfoEntity;
+import kopo.poly.repository.view.UserCredentialsView;
 import kopo.poly.service.IUserInfoService;
 import kopo.poly.util.CmmUtil;
+import kopo.poly.util.DbErrorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -21,28 +37,81 @@ public class UserInfoService implements IUserInfoService {
 
     private final UserInfoRepository userInfoRepository;
 
-    @Transactional(readOnly = true) // 조회 전용 트랜잭션:
-    // - 영속성 컨텍스트의 Dirty Checking/Flush 생략 → 불필요한 쓰기 방지
-    // - 일부 DB/드라이버에 read-only 힌트 전달(최적화 가능)
+    // 로그인 사용자 정보 캐시
+    private final UserDetailsCache userDetailsCache;
+
+    // 회원정보 2단계(메모리 + Redis) 캐시
+    private final UserInfoCache userInfoCache;
+
+    // 아이디 중복 체크용 Bloom Filter
+    private final UserIdBloomFilter userIdBloomFilter;
+
+    // 로그인 시도, 계정 잠금 저장소
+    private final LoginAttemptStore loginAttemptStore;
+
+    // 회원가입 트랜잭션(중복 오류를 트랜잭션 밖에서 처리하기 위해 사용)
+    private final TransactionTemplate transactionTemplate;
+
+    // 로그인 사용자 조회 시간, 회원가입 결과 기록
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 아이디 중복 체크
+     * <p>
+     * 회원가입 화면에서 입력할 때마다 호출되므로 Bloom Filter로 "가입되지 않은 아이디"는 DB 조회 없이 응답함
+     * - Bloom Filter가 "가입되었을 가능성 있음"으로 판단한 경우에만 DB에서 회원아이디(PK)만 조회하여 확인함
+     * - DB를 사용하지 않는 경우도 있으므로 트랜잭션(DB 커넥션)은 DB 조회 시에만 사용함
+     */
     @Override
     public UserInfoDTO getUserIdExists(UserInfoDTO pDTO) {
 
-        // Repository에서 userId로 조회
-        // - 반환 타입이 Optional<UserInfoEntity>라서 null 대신 "값이 있음/없음"을 표현
-        return userInfoRepository.findByUserId(pDTO.userId())
-
-                // [값이 있는 경우] ⇒ 해당 아이디가 존재하므로 existsYn = "Y" 인 DTO를 만들어 반환
-                // - 엔티티의 상세 필드는 이 시나리오에 필요 없어서 만들지 않음(불필요한 매핑 비용 절감)
-                .map(e -> UserInfoDTO.builder()
-                        .existsYn("Y")
-                        .build())
-
-                // [값이 없는 경우] ⇒ 해당 아이디가 존재하지 않음 → existsYn = "N" 인 DTO 생성
-                // - orElseGet(Supplier)은 "없을 때만" 람다를 실행함
-                //   (orElse(...)는 항상 인자를 먼저 만들어 성능상 손해가 될 수 있음)
-                .orElseGet(() -> UserInfoDTO.builder()
-                        .existsYn("N")
-                        .build());
+        String userId = CmmUtil.nvl(pDTO.userId());
+
+        // 가입되었을 가능성이 있는 경우에만 DB 확인
+        // 쿼리 예 : SELECT USER_ID FROM USER_INFO WHERE USER_ID = 'hglee67'
+        boolean exists = userIdBloomFilter.mightContain(userId)
+                && userInfoRepository.findExistsByUserId(userId).isPresent();
+
+        return UserInfoDTO.builder()
+                .existsYn(exists ? "Y" : "N")
+                .build();
+    }
+
+    /**
+     * 아이디 중복 체크용 Bloom Filter 다시 만들기
+     * - 전체 회원아이디를 스트리밍으로 읽어 메모리 사용량을 일정하게 유지함
+     */
+    @Transactional(readOnly = true) // Stream 조회는 트랜잭션 안에서 실행되어야 함
+    @Override
+    public long rebuildUserIdFilter() {
+
+        log.info("rebuildUserIdFilter Start!");
+
+        long count;
+
+        try (Stream<String> userIds = userInfoRepository.streamAllUserIds()) {
+            count = userIdBloomFilter.rebuild(userIds.iterator());
+        }
+
+        log.info("rebuildUserIdFilter End! count : {}", count);
+
+        return count;
+    }
+
+    /**
+     * 서버 시작 시 아이디 중복 체크용 Bloom Filter 만들기
+     * - 실패하더라도 Bloom Filter 없이(DB 조회로) 아이디 중복 체크가 되므로 서버는 정상 실행함
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initUserIdFilter() {
+
+        try {
+            rebuildUserIdFilter();
+
+        } catch (Exception e) {
+            log.error("initUserIdFilter error", e);
+        }
     }
 
 
@@ -55,33 +124,142 @@ public class UserInfoService implements IUserInfoService {
      * 아이디로 검색하고, 검색한 결과를 기반으로 Spring Security가 비밀번호가 같은지 판단함
      * <p>
      * 아이디와 패스워드가 일치하지 않으면 자동으로 UsernameNotFoundException 발생시킴
+     * <p>
+     * 로그인이 몰리는 경우를 대비해 UserDetailsCache에 저장된 정보가 있으면 DB 조회 없이 반환함
+     * <p>
+     * 처리 시간은 auth.user.load(outcome=found, locked, not_found, error)로 기록함
      *
      * @param userId 사용자 아이디
      */
-    @SneakyThrows
     @Override
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
-        log.info("{}.loadUserByUsername Start!", this.getClass().getName());
+        log.info("loadUserByUsername Start!");
 
         log.info("userId : {}", userId);
 
-        // 로그인 요청한 사용자 아이디를 검색함
-        // SELECT * FROM USER_INFO WHERE USER_ID = 'hglee67'
-        UserInfoEntity rEntity = userInfoRepository.findByUserId(userId)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+
+        try {
+            // 캐시에 없는 경우에만 DB 조회함
+            AuthInfo rUser = (AuthInfo) userDetailsCache.get(userId, this::findAuthInfo);
+
+            // 로그인 실패 횟수 초과로 잠긴 계정(캐시하지 않고 매번 확인함)
+            rUser = rUser.withLocked(isLocked(userId));
+
+            outcome = rUser.locked() ? "locked" : "found";
+
+            log.info("loadUserByUsername End!");
+
+            return rUser;
+
+        } catch (UsernameNotFoundException e) {
+            outcome = "not_found";
+            throw e;
+
+        } finally {
+            sample.stop(meterRegistry.timer("auth.user.load", "outcome", outcome));
+        }
+    }
+
+    /**
+     * 계정 잠금 여부(저장소 오류 시에는 잠기지 않은 것으로 처리함)
+     */
+    private boolean isLocked(String userId) {
+
+        try {
+            return loginAttemptStore.isLocked(userId);
+
+        } catch (RuntimeException e) {
+            log.warn("login attempt store error : {}", e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * DB에서 로그인 사용자 정보를 조회하여 AuthInfo 생성하기(UserDetailsCache에 없는 경우 실행됨)
+     *
+     * @param userId 사용자 아이디
+     */
+    private AuthInfo findAuthInfo(String userId) {
+
+        // 로그인 요청한 사용자 아이디를 검색함(이메일 등 로그인에 필요 없는 컬럼은 조회, 복호화하지 않음)
+        // SELECT USER_ID, USER_NAME, PASSWORD, ROLES FROM USER_INFO WHERE USER_ID = 'hglee67'
+        UserCredentialsView rView = userInfoRepository.findCredentialsByUserId(userId)
                 .orElseThrow(() -> new UsernameNotFoundException(userId + " Not Found User"));
 
-        // rEntity 데이터를 DTO로 변환하기
-        UserInfoDTO rDTO = UserInfoDTO.from(rEntity);
+        // 비밀번호가 맞는지 체크 및 권한 부여를 위해 UserDetails를 구현한 AuthInfo로 변환하기
+        return AuthInfo.from(rView);
+    }
+
+    /**
+     * 비밀번호 해시 다시 저장하기
+     * <p>
+     * Controller로부터 호출되지않고, 로그인 성공 시 Spring Security가 바로 호출함
+     * - PasswordEncoder.upgradeEncoding()이 true인 경우(알고리즘 변경, BCrypt 강도 증가 등)에만 호출됨
+     * - 사용자가 입력한 비밀번호를 새 형식으로 암호화한 값(newPassword)으로 변경하므로 비밀번호 재설정이 필요 없음
+     *
+     * @param user        로그인한 사용자 정보
+     * @param newPassword 새 형식으로 암호화된 비밀번호
+     */
+    @Transactional
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+
+        log.info("updatePassword Start!");
+
+        String userId = user.getUsername();
+
+        log.info("userId : {}", userId);
+
+        // UPDATE USER_INFO SET PASSWORD = ? WHERE USER_ID = 'hglee67'
+        int res = userInfoRepository.updatePassword(userId, newPassword);
+
+        // 이전 비밀번호 해시가 캐시에 남아있지 않도록 삭제
+        // (commit 전에 삭제하면 다른 요청이 변경 전 값을 다시 캐시할 수 있으므로 commit 후 삭제함)
+        evictAfterCommit(userId);
 
-        // 비밀번호가 맞는지 체크 및 권한 부여를 위해 rDTO를 UserDetails를 구현한 AuthInfo에 넣어주기
-        return new AuthInfo(rDTO);
+        log.info("updatePassword End! res : {}", res);
+
+        // 변경된 비밀번호로 로그인 정보 다시 만들기
+        return ((AuthInfo) user).withPassword(newPassword);
     }
 
+    /**
+     * 트랜잭션 commit 후 로그인 정보, 회원정보 캐시 삭제(다른 서버 캐시 포함)
+     * - 트랜잭션이 없으면 바로 삭제함
+     */
+    private void evictAfterCommit(String userId) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictUser(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictUser(userId);
+            }
+        });
+    }
+
+    private void evictUser(String userId) {
+        userDetailsCache.evict(userId);
+        userInfoCache.evict(userId);
+    }
+
+    /**
+     * 회원가입
+     * <p>
+     * 가입 여부를 먼저 조회하지 않고 바로 INSERT 하여 DB 왕복 1번으로 처리함
+     * - 이미 가입된 아이디는 PK 중복 오류로 확인함(동시에 같은 아이디로 가입해도 1명만 성공함)
+     * - 중복 오류가 발생한 트랜잭션은 rollback 되어야 하므로 트랜잭션(TransactionTemplate) 밖에서 예외를 처리함
+     */
     @Override
-    @Transactional // 트랜잭션 보장 (쓰기 작업 포함이므로 readOnly=false가 기본)
     public int insertUserInfo(UserInfoDTO pDTO) {
 
-        log.info("{}.insertUserInfo Start!", this.getClass().getName());
+        log.info("insertUserInfo Start!");
 
         // 반환 코드: 1 = 가입 성공, 2 = 아이디 중복, 0 = 기타 예외
         int res;
@@ -89,21 +267,34 @@ public class UserInfoService implements IUserInfoService {
         log.info("pDTO : {}", pDTO);
 
         try {
-            // 1. 회원 아이디 중복 여부 확인
-            boolean exists = userInfoRepository.existsById(pDTO.userId());
+            // 1. DTO → Entity 변환(새 Entity로 표시되므로 save 시 merge(SELECT) 없이 persist 함)
+            UserInfoEntity pEntity = UserInfoDTO.of(pDTO);
+
+            // 2. DB 저장(INSERT 1번), 중복 오류가 트랜잭션 안에서 발생하도록 바로 flush 함
+            // 쿼리 예 : INSERT INTO USER_INFO (user_id, user_name, ...) VALUES ('hglee67', '이협건', ...)
+            transactionTemplate.executeWithoutResult(status -> userInfoRepository.saveAndFlush(pEntity));
+
+            // 3. 이전에 캐시된 같은 아이디의 로그인 정보, 회원정보가 남아있지 않도록 삭제(트랜잭션 commit 후)
+            evictUser(pDTO.userId());
+
+            // 4. 아이디 중복 체크용 Bloom Filter에 가입 아이디 추가
+            userIdBloomFilter.put(pDTO.userId());
+
+            res = 1;
+
+        } catch (DataIntegrityViolationException e) {
 
-            if (exists) {
+            if (DbErrorUtil.isDuplicateKey(e)) {
                 // 이미 같은 아이디가 존재 → 중복 가입 방지
-                res = 2;
+                log.info("duplicate userId : {}", pDTO.userId());
 
-            } else {
-                // 2. DTO → Entity 변환
-                UserInfoEntity pEntity = UserInfoDTO.of(pDTO);
+                userIdBloomFilter.put(pDTO.userId());
 
-                // 3. DB 저장
-                userInfoRepository.save(pEntity);
+                res = 2;
 
-                res = 1;
+            } else {
+                log.error("insertUserInfo error", e);
+                res = 0;
             }
 
         } catch (Exception e) {
@@ -111,7 +302,10 @@ public class UserInfoService implements IUserInfoService {
             res = 0; // 예외 발생 시 0 반환
         }
 
-        log.info("{}.insertUserInfo End! res={}", this.getClass().getName(), res);
+        // 가입 결과별 횟수(result=1 성공, 2 아이디 중복, 0 오류)
+        meterRegistry.counter("user.register", "result", String.valueOf(res)).increment();
+
+        log.info("insertUserInfo End! res={}", res);
 
         return res;
     }
@@ -120,18 +314,31 @@ public class UserInfoService implements IUserInfoService {
     @Override
     public UserInfoDTO getUserInfo(UserInfoDTO pDTO) throws Exception {
 
-        log.info("{}.getUserInfo Start!", this.getClass().getName());
+        log.info("getUserInfo Start!");
 
         // 회원아이디
         String user_id = CmmUtil.nvl(pDTO.userId());
 
         log.info("user_id : {}", user_id);
 
-        // SELECT * FROM USER_INFO WHERE USER_ID = 'hglee67' 쿼리 실행과 동일
-        UserInfoDTO rDTO = UserInfoDTO.from(userInfoRepository.findByUserId(user_id).orElseThrow());
+        // 메모리 → Redis 캐시 순서로 조회하고, 모두 없는 경우에만 DB 조회함
+        UserInfoDTO rDTO = userInfoCache.get(user_id, this::findUserInfo);
 
-        log.info("{}.getUserInfo End!", this.getClass().getName());
+        log.info("getUserInfo End!");
 
         return rDTO;
     }
+
+    /**
+     * DB에서 회원정보 조회하기(UserInfoCache에 없는 경우 실행됨)
+     *
+     * @param userId 회원아이디
+     */
+    @SneakyThrows
+    private UserInfoDTO findUserInfo(String userId) {
+
+        // 비밀번호를 제외한 회원정보만 조회함
+        // SELECT USER_ID, USER_NAME, EMAIL, ... FROM USER_INFO WHERE USER_ID = 'hglee67'
+        return UserInfoDTO.from(userInfoRepository.findProfileByUserId(userId).orElseThrow());
+    }
 }
@@ -0,0 +1,432 @@
+package kopo.poly.session;
+
+import kopo.poly.auth.AuthInfo;
+import kopo.poly.auth.AuthorityRegistry;
+import kopo.poly.auth.RoleSet;
+import kopo.poly.dto.UserInfoDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Spring Session(Redis) 세션 값 직렬화 - 직접 정의한 바이너리 형식
+ * <p>
+ * 자바 기본 직렬화(JDK)는 클래스 이름, 필드 정보까지 모두 저장하므로 크기가 크고 느림
+ * 세션에 자주 저장되는 타입은 미리 정한 번호(TAG)와 값만 저장하여 크기, 변환 시간을 줄임
+ * - 등록된 타입 : String, Long, Integer, Boolean, SimpleGrantedAuthority, UserInfoDTO, AuthInfo,
+ *   SecurityContextImpl, UsernamePasswordAuthenticationToken, WebAuthenticationDetails
+ * - 등록되지 않은 타입은 해당 값만 JDK 직렬화로 저장함
+ * - 기존 JDK 직렬화로 저장된 세션(0xACED로 시작)도 읽을 수 있음
+ * - 클래스 구조가 바뀌어 읽을 수 없는 기존 세션 값은 null(다시 로그인 필요)로 처리함
+ * <p>
+ * 저장 형식 : MAGIC(1바이트) + FORMAT_VERSION(1바이트) + 값(TAG + 데이터)
+ */
+@Slf4j
+public class CompactSessionRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte MAGIC = (byte) 0xC5;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    // 타입 번호(한 번 정한 번호는 변경하면 안 됨)
+    private static final byte T_NULL = 0;
+    private static final byte T_STRING = 1;
+    private static final byte T_LONG = 2;
+    private static final byte T_INTEGER = 3;
+    private static final byte T_BOOLEAN = 4;
+    private static final byte T_AUTHORITY = 10;
+    private static final byte T_USER_INFO = 11;
+    private static final byte T_LEGACY_AUTH_INFO = 12; // UserInfoDTO 전체를 저장하던 이전 AuthInfo(읽기만 함)
+    private static final byte T_SECURITY_CONTEXT = 13;
+    private static final byte T_USERNAME_PASSWORD_TOKEN = 14;
+    private static final byte T_WEB_DETAILS = 15;
+    private static final byte T_AUTH_INFO = 16;
+    private static final byte T_JDK = 127;
+
+    private final JdkSerializationRedisSerializer jdkSerializer;
+
+    // false : JDK 직렬화로 저장(읽기는 두 형식 모두 가능) - 모든 서버 배포가 끝나기 전까지 사용
+    private final boolean writeCompact;
+
+    // 통계
+    private final LongAdder serializeCount = new LongAdder();
+    private final LongAdder serializeNanos = new LongAdder();
+    private final LongAdder serializedBytes = new LongAdder();
+    private final LongAdder deserializeCount = new LongAdder();
+    private final LongAdder deserializeNanos = new LongAdder();
+    private final LongAdder deserializedBytes = new LongAdder();
+    private final LongAdder jdkReadCount = new LongAdder();
+    private final LongAdder jdkFallbackCount = new LongAdder();
+    private final LongAdder jdkReadErrorCount = new LongAdder();
+
+    public CompactSessionRedisSerializer(ClassLoader classLoader, boolean writeCompact) {
+        this.jdkSerializer = new JdkSerializationRedisSerializer(classLoader);
+        this.writeCompact = writeCompact;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+
+        long start = System.nanoTime();
+        byte[] res;
+
+        if (!writeCompact) {
+            res = jdkSerializer.serialize(value);
+
+        } else {
+            try {
+                ByteArrayOutputStream bos = new ByteArrayOutputStream(64);
+                DataOutputStream out = new DataOutputStream(bos);
+
+                out.writeByte(MAGIC);
+                out.writeByte(FORMAT_VERSION);
+                writeValue(out, value);
+
+                res = bos.toByteArray();
+
+            } catch (IOException e) {
+                throw new SerializationException("Cannot serialize session value", e);
+            }
+        }
+
+        serializeCount.increment();
+        serializeNanos.add(System.nanoTime() - start);
+        serializedBytes.add(res == null ? 0 : res.length);
+
+        return res;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        Object res;
+
+        if (bytes[0] != MAGIC) {
+            // 기존 JDK 직렬화 형식(0xACED)
+            jdkReadCount.increment();
+            res = deserializeJdk(bytes);
+
+        } else {
+            try {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+                in.readByte(); // MAGIC
+                byte version = in.readByte();
+
+                if (version != FORMAT_VERSION) {
+                    throw new SerializationException("Unsupported session format version : " + version);
+                }
+
+                res = readValue(in);
+
+            } catch (IOException e) {
+                throw new SerializationException("Cannot deserialize session value", e);
+            }
+        }
+
+        deserializeCount.increment();
+        deserializeNanos.add(System.nanoTime() - start);
+        deserializedBytes.add(bytes.length);
+
+        return res;
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+
+        if (value == null) {
+            out.writeByte(T_NULL);
+
+        } else if (value instanceof String str) {
+            out.writeByte(T_STRING);
+            writeString(out, str);
+
+        } else if (value instanceof Long l) {
+            out.writeByte(T_LONG);
+            out.writeLong(l);
+
+        } else if (value instanceof Integer i) {
+            out.writeByte(T_INTEGER);
+            out.writeInt(i);
+
+        } else if (value instanceof Boolean b) {
+            out.writeByte(T_BOOLEAN);
+            out.writeBoolean(b);
+
+        } else if (value.getClass() == SimpleGrantedAuthority.class) {
+            out.writeByte(T_AUTHORITY);
+            writeString(out, ((SimpleGrantedAuthority) value).getAuthority());
+
+        } else if (value instanceof UserInfoDTO dto) {
+            out.writeByte(T_USER_INFO);
+            writeUserInfo(out, dto);
+
+        } else if (value instanceof AuthInfo authInfo) {
+            out.writeByte(T_AUTH_INFO);
+            writeString(out, authInfo.userId());
+            writeString(out, authInfo.userName());
+            writeString(out, authInfo.password());
+
+            out.writeInt(authInfo.authorities().size());
+            for (GrantedAuthority authority : authInfo.authorities()) {
+                writeValue(out, authority);
+            }
+
+        } else if (value.getClass() == SecurityContextImpl.class) {
+            out.writeByte(T_SECURITY_CONTEXT);
+            writeValue(out, ((SecurityContextImpl) value).getAuthentication());
+
+        } else if (value.getClass() == UsernamePasswordAuthenticationToken.class) {
+            UsernamePasswordAuthenticationToken token = (UsernamePasswordAuthenticationToken) value;
+
+            out.writeByte(T_USERNAME_PASSWORD_TOKEN);
+            out.writeBoolean(token.isAuthenticated());
+            writeValue(out, token.getPrincipal());
+            writeValue(out, token.getCredentials());
+            writeValue(out, token.getDetails());
+
+            out.writeInt(token.getAuthorities().size());
+            for (GrantedAuthority authority : token.getAuthorities()) {
+                writeValue(out, authority);
+            }
+
+        } else if (value.getClass() == WebAuthenticationDetails.class) {
+            WebAuthenticationDetails details = (WebAuthenticationDetails) value;
+
+            out.writeByte(T_WEB_DETAILS);
+            writeString(out, details.getRemoteAddress());
+            writeString(out, details.getSessionId());
+
+        } else {
+            // 등록되지 않은 타입(SavedRequest 등)은 JDK 직렬화로 저장
+            jdkFallbackCount.increment();
+
+            byte[] bytes = jdkSerializer.serialize(value);
+
+            out.writeByte(T_JDK);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private Object readValue(DataInputStream in) throws IOException {
+
+        byte tag = in.readByte();
+
+        switch (tag) {
+            case T_NULL:
+                return null;
+
+            case T_STRING:
+                return readString(in);
+
+            case T_LONG:
+                return in.readLong();
+
+            case T_INTEGER:
+                return in.readInt();
+
+            case T_BOOLEAN:
+                return in.readBoolean();
+
+            case T_AUTHORITY:
+                return AuthorityRegistry.authority(readString(in)); // 공유 권한 객체 사용
+
+            case T_USER_INFO:
+                return readUserInfo(in);
+
+            case T_AUTH_INFO: {
+                String userId = readString(in);
+                String userName = readString(in);
+                String password = readString(in);
+
+                int size = in.readInt();
+                List<GrantedAuthority> authorities = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    authorities.add((GrantedAuthority) readValue(in));
+                }
+
+                return new AuthInfo(userId, userName, RoleSet.copyOf(authorities), password);
+            }
+
+            case T_LEGACY_AUTH_INFO:
+                return AuthInfo.from(readUserInfo(in)).withoutCredentials();
+
+            case T_SECURITY_CONTEXT:
+                return new SecurityContextImpl((Authentication) readValue(in));
+
+            case T_USERNAME_PASSWORD_TOKEN: {
+                boolean authenticated = in.readBoolean();
+                Object principal = readValue(in);
+                Object credentials = readValue(in);
+                Object details = readValue(in);
+
+                int size = in.readInt();
+                List<GrantedAuthority> authorities = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    authorities.add((GrantedAuthority) readValue(in));
+                }
+
+                UsernamePasswordAuthenticationToken token = authenticated
+                        ? UsernamePasswordAuthenticationToken.authenticated(principal, credentials, authorities)
+                        : UsernamePasswordAuthenticationToken.unauthenticated(principal, credentials);
+                token.setDetails(details);
+
+                return token;
+            }
+
+            case T_WEB_DETAILS:
+                return new WebAuthenticationDetails(readString(in), readString(in));
+
+            case T_JDK: {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+
+                return deserializeJdk(bytes);
+            }
+
+            default:
+                throw new SerializationException("Unknown session value type : " + tag);
+        }
+    }
+
+    /**
+     * JDK 직렬화 값 읽기
+     * - 클래스 구조가 바뀐 이전 세션 값(예 : UserInfoDTO 전체를 저장하던 AuthInfo)은 null로 처리하여 다시 로그인하도록 함
+     * (record는 구성 요소 이름으로 값을 채우므로 이전 AuthInfo는 userId가 없어 AuthInfo 생성자에서 예외가 발생함)
+     */
+    private Object deserializeJdk(byte[] bytes) {
+
+        try {
+            return jdkSerializer.deserialize(bytes);
+
+        } catch (SerializationException e) {
+            jdkReadErrorCount.increment();
+            log.warn("Cannot deserialize legacy session value : {}", e.getMostSpecificCause().toString());
+
+            return null;
+        }
+    }
+
+    private static void writeUserInfo(DataOutputStream out, UserInfoDTO dto) throws IOException {
+        writeString(out, dto.userId());
+        writeString(out, dto.userName());
+        writeString(out, dto.password());
+        writeString(out, dto.email());
+        writeString(out, dto.addr1());
+        writeString(out, dto.addr2());
+        writeString(out, dto.regId());
+        writeString(out, dto.regDt());
+        writeString(out, dto.chgId());
+        writeString(out, dto.chgDt());
+        writeString(out, dto.roles());
+        writeString(out, dto.existsYn());
+    }
+
+    private static UserInfoDTO readUserInfo(DataInputStream in) throws IOException {
+        return UserInfoDTO.builder()
+                .userId(readString(in))
+                .userName(readString(in))
+                .password(readString(in))
+                .email(readString(in))
+                .addr1(readString(in))
+                .addr2(readString(in))
+                .regId(readString(in))
+                .regDt(readString(in))
+                .chgId(readString(in))
+                .chgDt(readString(in))
+                .roles(readString(in))
+                .existsYn(readString(in))
+                .build();
+    }
+
+    /**
+     * 문자열 저장 : 길이(-1이면 null) + UTF-8 바이트
+     */
+    private static void writeString(DataOutputStream out, String str) throws IOException {
+
+        if (str == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+
+        int length = in.readInt();
+
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public long getSerializeCount() {
+        return serializeCount.sum();
+    }
+
+    public long getSerializeNanos() {
+        return serializeNanos.sum();
+    }
+
+    public long getSerializedBytes() {
+        return serializedBytes.sum();
+    }
+
+    public long getDeserializeCount() {
+        return deserializeCount.sum();
+    }
+
+    public long getDeserializeNanos() {
+        return deserializeNanos.sum();
+    }
+
+    public long getDeserializedBytes() {
+        return deserializedBytes.sum();
+    }
+
+    // 기존 JDK 직렬화 형식으로 읽은 횟수(0이 되면 모든 세션이 새 형식으로 저장된 것)
+    public long getJdkReadCount() {
+        return jdkReadCount.sum();
+    }
+
+    // 읽을 수 없어 null로 처리한 JDK 직렬화 값 수
+    public long getJdkReadErrorCount() {
+        return jdkReadErrorCount.sum();
+    }
+
+    // 등록되지 않은 타입이라 JDK 직렬화로 저장한 횟수
+    public long getJdkFallbackCount() {
+        return jdkFallbackCount.sum();
+    }
+}
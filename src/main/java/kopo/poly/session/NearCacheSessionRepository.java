@@ -0,0 +1,517 @@
+package kopo.poly.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서버(노드)별 메모리 캐시를 앞에 둔 세션 저장소
+ * <p>
+ * RedisSessionRepository는 요청마다 Redis에서 세션 전체를 조회(HGETALL)하고 마지막 접근 시간을 저장함
+ * 이 저장소는 최근 사용한 세션을 메모리에 보관하고, 마지막 접근 시간은 모아서 주기적으로 저장함
+ * - 세션 속성 변경, 삭제, 아이디 변경은 바로 저장소에 저장하고 다른 서버에 알림(Pub/Sub)을 보내 캐시를 삭제하게 함
+ * - 알림이 유실되더라도 메모리 캐시는 ttl이 지나면 저장소에서 다시 조회함
+ * - 마지막 접근 시간만 바뀐 경우 touch-interval마다 모아서 저장함(저장소 만료 시간이 가까우면 바로 저장함)
+ * - 같은 서버의 요청은 같은 세션 속성 객체를 함께 사용함(서블릿 컨테이너 메모리 세션과 동일)
+ * - maxSize가 0이면 메모리 캐시 없이 저장 묶음, 마지막 접근 시간 모아서 저장만 사용함
+ */
+@Slf4j
+public class NearCacheSessionRepository implements SessionRepository<NearCacheSessionRepository.NearCacheSession>,
+        DisposableBean {
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final SessionStore sessionStore;
+
+    private final Cache<String, Entry> cache;
+
+    // false : 메모리 캐시 없이 저장 묶음(파이프라인), 마지막 접근 시간 모아서 저장만 사용함
+    private final boolean localCache;
+
+    // 메모리 캐시 최대 보관 시간(저장소에서 조회한 시점 기준)
+    private final long ttlNanos;
+
+    // 마지막 접근 시간 모아서 저장하는 주기(0이면 바로 저장함)
+    private final Duration touchInterval;
+
+    private final Duration defaultMaxInactiveInterval;
+
+    // 아직 저장소에 저장하지 않은 마지막 접근 시간
+    private final Map<String, SessionStore.Touch> pendingTouches = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    // 통계
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder touchCoalescedCount = new LongAdder();
+    private final LongAdder touchWrittenCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public NearCacheSessionRepository(SessionStore sessionStore, long maxSize, Duration ttl, Duration touchInterval,
+                                      Duration defaultMaxInactiveInterval) {
+
+        log.info("maxSize : {}, ttl : {}, touchInterval : {}", maxSize, ttl, touchInterval);
+
+        this.sessionStore = sessionStore;
+        this.localCache = maxSize > 0;
+        this.ttlNanos = ttl.toNanos();
+        this.touchInterval = touchInterval;
+        this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfterWrite(ttl)
+                .build();
+
+        if (touchInterval.isPositive()) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "session-touch-flush");
+                t.setDaemon(true);
+                return t;
+            });
+
+            this.scheduler.scheduleWithFixedDelay(this::flushTouchesQuietly,
+                    touchInterval.toMillis(), touchInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        } else {
+            this.scheduler = null;
+        }
+
+        if (localCache) {
+            sessionStore.subscribe(this::onInvalidate);
+        }
+    }
+
+    @Override
+    public NearCacheSession createSession() {
+
+        MapSession cached = new MapSession();
+        cached.setMaxInactiveInterval(defaultMaxInactiveInterval);
+
+        return new NearCacheSession(cached, true);
+    }
+
+    @Override
+    public void save(NearCacheSession session) {
+
+        String sessionId = session.getId();
+
+        // 세션 아이디가 바뀐 경우(저장소에 있는 세션만 변경함)
+        String renamedFrom = !session.isNew && !sessionId.equals(session.originalId) ? session.originalId : null;
+
+        if (renamedFrom != null) {
+            // 변경 전 아이디로 저장된 값이 이미 저장소에 있으므로 마지막 접근 시간만 함께 저장함
+            session.delta.put(SessionStore.LAST_ACCESSED_TIME_KEY, session.getLastAccessedTime().toEpochMilli());
+        }
+
+        session.originalId = sessionId;
+
+        if (session.isNew) {
+            // 새 세션 : 전체 값 저장
+            Map<String, Object> values = new HashMap<>();
+            values.put(SessionStore.CREATION_TIME_KEY, session.getCreationTime().toEpochMilli());
+            values.put(SessionStore.MAX_INACTIVE_INTERVAL_KEY, (int) session.getMaxInactiveInterval().getSeconds());
+            values.put(SessionStore.LAST_ACCESSED_TIME_KEY, session.getLastAccessedTime().toEpochMilli());
+
+            for (String name : session.getAttributeNames()) {
+                values.put(SessionStore.ATTRIBUTE_PREFIX + name, session.getAttribute(name));
+            }
+
+            sessionStore.save(sessionId, null, values, expireAt(session));
+
+            session.isNew = false;
+            session.storedLastAccessedTime = session.getLastAccessedTime().toEpochMilli();
+            session.delta.clear();
+
+            if (localCache) {
+                cache.put(sessionId, new Entry(new MapSession(session.cached), session.storedLastAccessedTime, System.nanoTime()));
+            }
+
+        } else if (!session.delta.isEmpty()) {
+            // 속성 변경, 아이디 변경 : 한 번에 저장하고 다른 서버의 캐시 삭제
+            session.delta.put(SessionStore.LAST_ACCESSED_TIME_KEY, session.getLastAccessedTime().toEpochMilli());
+
+            sessionStore.save(sessionId, renamedFrom, new HashMap<>(session.delta), expireAt(session));
+
+            session.storedLastAccessedTime = session.getLastAccessedTime().toEpochMilli();
+            session.delta.clear();
+
+            if (renamedFrom != null) {
+                evict(renamedFrom);
+            }
+
+            // 같은 세션의 다른 요청이 동시에 속성을 변경할 수 있으므로 캐시에 넣지 않고 다음 조회 시 저장소에서 읽음
+            evict(sessionId);
+
+        } else if (session.getLastAccessedTime().toEpochMilli() > session.storedLastAccessedTime) {
+            // 마지막 접근 시간만 변경
+            touch(session);
+        }
+    }
+
+    @Override
+    public NearCacheSession findById(String id) {
+
+        Entry entry = localCache ? cache.getIfPresent(id) : null;
+
+        if (entry != null && System.nanoTime() - entry.loadedAt() < ttlNanos && !entry.session().isExpired()) {
+            hitCount.increment();
+
+            return new NearCacheSession(new MapSession(entry.session()), entry.storedLastAccessedTime());
+        }
+
+        missCount.increment();
+
+        MapSession loaded = toMapSession(id, sessionStore.load(id));
+
+        if (loaded == null) {
+            cache.invalidate(id);
+            return null;
+        }
+
+        long storedLastAccessedTime = loaded.getLastAccessedTime().toEpochMilli();
+
+        // 아직 저장하지 않은 마지막 접근 시간 반영
+        SessionStore.Touch pending = pendingTouches.get(id);
+
+        if (pending != null && pending.lastAccessedTime() > storedLastAccessedTime) {
+            loaded.setLastAccessedTime(Instant.ofEpochMilli(pending.lastAccessedTime()));
+        }
+
+        if (loaded.isExpired()) {
+            deleteById(id);
+            return null;
+        }
+
+        if (localCache) {
+            cache.put(id, new Entry(loaded, storedLastAccessedTime, System.nanoTime()));
+        }
+
+        return new NearCacheSession(new MapSession(loaded), storedLastAccessedTime);
+    }
+
+    @Override
+    public void deleteById(String id) {
+
+        sessionStore.delete(id);
+
+        evict(id);
+    }
+
+    /**
+     * 캐시, 모아둔 마지막 접근 시간 삭제 및 다른 서버에 알림
+     */
+    private void evict(String sessionId) {
+
+        pendingTouches.remove(sessionId);
+        cache.invalidate(sessionId);
+
+        // 메모리 캐시를 사용하지 않는 서버도 다른 서버의 캐시 삭제를 위해 알림을 보냄
+        publishInvalidation(sessionId);
+    }
+
+    /**
+     * 모아둔 마지막 접근 시간 저장하기
+     */
+    public void flushTouches() {
+
+        if (pendingTouches.isEmpty()) {
+            return;
+        }
+
+        List<SessionStore.Touch> touches = new ArrayList<>(pendingTouches.size());
+
+        for (SessionStore.Touch touch : pendingTouches.values()) {
+            // 저장하는 사이 새로 변경된 값은 다음 주기에 저장함
+            if (pendingTouches.remove(touch.sessionId(), touch)) {
+                touches.add(touch);
+            }
+        }
+
+        if (touches.isEmpty()) {
+            return;
+        }
+
+        writeTouches(touches);
+    }
+
+    private void flushTouchesQuietly() {
+
+        try {
+            flushTouches();
+
+        } catch (RuntimeException e) {
+            log.warn("NearCacheSessionRepository flushTouches error : {}", e.toString());
+        }
+    }
+
+    private void touch(NearCacheSession session) {
+
+        String sessionId = session.getId();
+        long lastAccessedTime = session.getLastAccessedTime().toEpochMilli();
+        SessionStore.Touch touch = new SessionStore.Touch(sessionId, lastAccessedTime, expireAt(session));
+
+        // 저장소의 만료 시간이 다음 저장 주기 전에 지날 수 있으면 바로 저장함
+        long storedExpireAt = session.storedLastAccessedTime + session.getMaxInactiveInterval().toMillis();
+        boolean writeNow = !touchInterval.isPositive()
+                || storedExpireAt - System.currentTimeMillis() < touchInterval.toMillis() * 2;
+
+        if (writeNow) {
+            pendingTouches.remove(sessionId);
+            writeTouches(List.of(touch));
+
+            session.storedLastAccessedTime = lastAccessedTime;
+
+        } else {
+            touchCoalescedCount.increment();
+
+            pendingTouches.merge(sessionId, touch,
+                    (prev, next) -> prev.lastAccessedTime() >= next.lastAccessedTime() ? prev : next);
+        }
+
+        // 캐시된 세션의 마지막 접근 시간 변경(캐시 보관 시간은 유지함)
+        cache.asMap().computeIfPresent(sessionId, (id, entry) -> {
+            if (entry.session().getLastAccessedTime().toEpochMilli() >= lastAccessedTime) {
+                return entry;
+            }
+
+            MapSession copy = new MapSession(entry.session());
+            copy.setLastAccessedTime(session.getLastAccessedTime());
+
+            return new Entry(copy, entry.storedLastAccessedTime(), entry.loadedAt());
+        });
+    }
+
+    private void writeTouches(List<SessionStore.Touch> touches) {
+
+        sessionStore.touch(touches);
+        touchWrittenCount.add(touches.size());
+
+        for (SessionStore.Touch touch : touches) {
+            cache.asMap().computeIfPresent(touch.sessionId(), (id, entry) ->
+                    entry.storedLastAccessedTime() >= touch.lastAccessedTime() ? entry
+                            : new Entry(entry.session(), touch.lastAccessedTime(), entry.loadedAt()));
+        }
+    }
+
+    private void publishInvalidation(String sessionId) {
+
+        try {
+            sessionStore.publish(nodeId + "|" + sessionId);
+
+        } catch (RuntimeException e) {
+            // 알림이 실패해도 다른 서버 캐시는 ttl이 지나면 다시 조회됨
+            log.warn("NearCacheSessionRepository publish error : {}", e.toString());
+        }
+    }
+
+    /**
+     * 다른 서버가 변경, 삭제한 세션을 캐시에서 삭제
+     */
+    private void onInvalidate(String message) {
+
+        int idx = message.indexOf('|');
+
+        if (idx > 0 && !message.substring(0, idx).equals(nodeId)) {
+            String sessionId = message.substring(idx + 1);
+
+            invalidationCount.increment();
+            cache.invalidate(sessionId);
+
+            // 다른 서버에서 삭제(로그아웃)한 세션에 마지막 접근 시간을 저장하지 않음
+            // (변경인 경우 다른 서버가 마지막 접근 시간도 함께 저장했으므로 버려도 됨)
+            pendingTouches.remove(sessionId);
+        }
+    }
+
+    private static Instant expireAt(Session session) {
+        return session.getLastAccessedTime().plus(session.getMaxInactiveInterval());
+    }
+
+    /**
+     * 저장소 값을 MapSession으로 변환
+     *
+     * @return 세션이 없거나 필수 값(creationTime)이 없으면 null
+     */
+    private static MapSession toMapSession(String id, Map<String, Object> values) {
+
+        if (values == null || !(values.get(SessionStore.CREATION_TIME_KEY) instanceof Number creationTime)) {
+            return null;
+        }
+
+        MapSession session = new MapSession(id);
+        session.setCreationTime(Instant.ofEpochMilli(creationTime.longValue()));
+
+        if (values.get(SessionStore.LAST_ACCESSED_TIME_KEY) instanceof Number lastAccessedTime) {
+            session.setLastAccessedTime(Instant.ofEpochMilli(lastAccessedTime.longValue()));
+        }
+
+        if (values.get(SessionStore.MAX_INACTIVE_INTERVAL_KEY) instanceof Number maxInactiveInterval) {
+            session.setMaxInactiveInterval(Duration.ofSeconds(maxInactiveInterval.longValue()));
+        }
+
+        values.forEach((field, value) -> {
+            if (field.startsWith(SessionStore.ATTRIBUTE_PREFIX)) {
+                session.setAttribute(field.substring(SessionStore.ATTRIBUTE_PREFIX.length()), value);
+            }
+        });
+
+        return session;
+    }
+
+    @Override
+    public void destroy() {
+
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+
+        // 서버 종료 전 남은 마지막 접근 시간 저장
+        flushTouchesQuietly();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    // 저장하지 않고 모아둔 마지막 접근 시간 변경 수
+    public long getTouchCoalescedCount() {
+        return touchCoalescedCount.sum();
+    }
+
+    // 저장소에 저장한 마지막 접근 시간 변경 수
+    public long getTouchWrittenCount() {
+        return touchWrittenCount.sum();
+    }
+
+    // 다른 서버의 알림으로 캐시에서 삭제한 수
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 캐시에 보관하는 세션 정보
+     *
+     * @param session                캐시된 세션(변경하지 않고 복사하여 사용함)
+     * @param storedLastAccessedTime 저장소에 저장된 마지막 접근 시간
+     * @param loadedAt               저장소에서 조회한 시간(System.nanoTime())
+     */
+    private record Entry(MapSession session, long storedLastAccessedTime, long loadedAt) {
+    }
+
+    /**
+     * 요청 처리 중 사용하는 세션(변경된 속성을 기록해 두었다가 save() 시 저장함)
+     */
+    public static final class NearCacheSession implements Session {
+
+        private final MapSession cached;
+
+        private final Map<String, Object> delta = new HashMap<>();
+
+        private String originalId;
+
+        private boolean isNew;
+
+        private long storedLastAccessedTime;
+
+        NearCacheSession(MapSession cached, boolean isNew) {
+            this.cached = cached;
+            this.isNew = isNew;
+            this.originalId = cached.getId();
+        }
+
+        NearCacheSession(MapSession cached, long storedLastAccessedTime) {
+            this(cached, false);
+            this.storedLastAccessedTime = storedLastAccessedTime;
+        }
+
+        @Override
+        public String getId() {
+            return cached.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return cached.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return cached.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return cached.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            cached.setAttribute(attributeName, attributeValue);
+            delta.put(SessionStore.ATTRIBUTE_PREFIX + attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            setAttribute(attributeName, null);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return cached.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            cached.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return cached.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            cached.setMaxInactiveInterval(interval);
+            delta.put(SessionStore.MAX_INACTIVE_INTERVAL_KEY, (int) interval.getSeconds());
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return cached.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return cached.isExpired();
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package kopo.poly.session;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Redis 세션 저장소
+ * - Key : spring:session:sessions:세션아이디(RedisSessionRepository와 같은 Key를 사용하므로 서로 바꿔 사용할 수 있음)
+ * - 값 변환은 Spring Session과 같은 springSessionDefaultRedisSerializer를 사용함
+ * <p>
+ * pipelined=true이면 세션 저장 시 RENAME, HDEL, HSET, PEXPIREAT을 한 번에 보내 왕복(Round Trip) 1회로 처리함
+ * - 마지막 접근 시간은 세션이 있는 경우에만 저장함(Lua 스크립트, 세션별 EVAL 1회)
+ * false이면 RedisSessionRepository와 같이 명령마다 왕복함(비교 측정용)
+ * <p>
+ * 지표
+ * - session.store(operation=load, save, touch, delete) : Redis 처리 시간(pipelined가 아니면 여러 명령의 합)
+ * - session.store.payload(operation=load, save) : 조회, 저장한 세션 값 크기(byte, Key 제외)
+ */
+public class RedisSessionStore implements SessionStore {
+
+    private static final String KEY_PREFIX = "spring:session:sessions:";
+
+    // 세션 변경 알림 채널
+    private static final byte[] INVALIDATE_CHANNEL = "spring:session:near-cache:invalidate".getBytes(StandardCharsets.UTF_8);
+
+    // 세션이 있는 경우에만 마지막 접근 시간 저장
+    // (다른 서버에서 삭제한 세션을 lastAccessedTime만 있는 Hash로 다시 만들면 RedisSessionRepository 서버에서 읽을 수 없음)
+    private static final byte[] TOUCH_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+                redis.call('PEXPIREAT', KEYS[1], ARGV[3])
+                return 1
+            end
+            return 0
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, Object> sessionRedisTemplate;
+
+    private final RedisSerializer<Object> valueSerializer;
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final SessionRoundTripCounter sessionRoundTripCounter;
+
+    private final boolean pipelined;
+
+    // Redis 처리 시간
+    private final Timer loadTimer;
+    private final Timer saveTimer;
+    private final Timer touchTimer;
+    private final Timer deleteTimer;
+
+    // 세션 값 크기
+    private final DistributionSummary loadPayload;
+    private final DistributionSummary savePayload;
+
+    public RedisSessionStore(RedisConnectionFactory redisConnectionFactory, RedisSerializer<Object> valueSerializer,
+                             RedisMessageListenerContainer redisMessageListenerContainer,
+                             SessionRoundTripCounter sessionRoundTripCounter, boolean pipelined,
+                             MeterRegistry meterRegistry) {
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(StringRedisSerializer.UTF_8);
+        redisTemplate.setHashKeySerializer(StringRedisSerializer.UTF_8);
+        redisTemplate.setValueSerializer(valueSerializer);
+        redisTemplate.setHashValueSerializer(valueSerializer);
+        redisTemplate.afterPropertiesSet();
+
+        this.sessionRedisTemplate = redisTemplate;
+        this.valueSerializer = valueSerializer;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.sessionRoundTripCounter = sessionRoundTripCounter;
+        this.pipelined = pipelined;
+
+        this.loadTimer = storeTimer(meterRegistry, "load");
+        this.saveTimer = storeTimer(meterRegistry, "save");
+        this.touchTimer = storeTimer(meterRegistry, "touch");
+        this.deleteTimer = storeTimer(meterRegistry, "delete");
+        this.loadPayload = payloadSummary(meterRegistry, "load");
+        this.savePayload = payloadSummary(meterRegistry, "save");
+    }
+
+    @Override
+    public Map<String, Object> load(String sessionId) {
+
+        byte[] rawKey = rawKey(sessionId);
+
+        // 크기를 기록하기 위해 변환 전 값(byte)으로 조회함
+        Map<byte[], byte[]> entries = loadTimer.record(() -> sessionRedisTemplate.execute(
+                (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(rawKey)));
+        sessionRoundTripCounter.record(1);
+
+        if (entries == null || entries.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<String, Object> res = new HashMap<>(entries.size() * 2);
+        long bytes = 0;
+
+        for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+            bytes += entry.getValue().length;
+            res.put(new String(entry.getKey(), StandardCharsets.UTF_8), valueSerializer.deserialize(entry.getValue()));
+        }
+
+        loadPayload.record(bytes);
+
+        return res;
+    }
+
+    @Override
+    public void save(String sessionId, String renamedFrom, Map<String, Object> delta, Instant expireAt) {
+
+        byte[] rawKey = rawKey(sessionId);
+        byte[] rawRenamedFrom = renamedFrom == null ? null : rawKey(renamedFrom);
+
+        Map<byte[], byte[]> values = new HashMap<>(delta.size() * 2);
+        List<byte[]> removed = new ArrayList<>();
+        long bytes = 0;
+
+        for (Map.Entry<String, Object> entry : delta.entrySet()) {
+            if (entry.getValue() == null) {
+                removed.add(raw(entry.getKey()));
+
+            } else {
+                byte[] value = valueSerializer.serialize(entry.getValue());
+                values.put(raw(entry.getKey()), value);
+                bytes += value == null ? 0 : value.length;
+            }
+        }
+
+        savePayload.record(bytes);
+
+        int commands = 1 + (rawRenamedFrom == null ? 0 : 1) + (removed.isEmpty() ? 0 : 1) + (values.isEmpty() ? 0 : 1);
+
+        try {
+            execute(saveTimer, connection -> {
+                if (rawRenamedFrom != null) {
+                    connection.keyCommands().rename(rawRenamedFrom, rawKey);
+                }
+
+                if (!removed.isEmpty()) {
+                    connection.hashCommands().hDel(rawKey, removed.toArray(new byte[0][]));
+                }
+
+                if (!values.isEmpty()) {
+                    connection.hashCommands().hMSet(rawKey, values);
+                }
+
+                connection.keyCommands().pExpireAt(rawKey, expireAt.toEpochMilli());
+            }, commands);
+
+        } catch (RuntimeException e) {
+            // 이미 만료된 세션의 아이디 변경은 무시함(RedisSessionRepository와 동일)
+            if (rawRenamedFrom == null || !isNoSuchKey(e)) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void touch(Collection<Touch> touches) {
+
+        byte[] lastAccessedTimeKey = raw(LAST_ACCESSED_TIME_KEY);
+
+        execute(touchTimer, connection -> {
+            for (Touch touch : touches) {
+                connection.scriptingCommands().eval(TOUCH_SCRIPT, ReturnType.INTEGER, 1, rawKey(touch.sessionId()),
+                        lastAccessedTimeKey, valueSerializer.serialize(touch.lastAccessedTime()),
+                        raw(String.valueOf(touch.expireAt().toEpochMilli())));
+            }
+        }, touches.size());
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        deleteTimer.record(() -> sessionRedisTemplate.delete(key(sessionId)));
+        sessionRoundTripCounter.record(1);
+    }
+
+    @Override
+    public void publish(String message) {
+
+        sessionRedisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.publish(INVALIDATE_CHANNEL, message.getBytes(StandardCharsets.UTF_8)));
+
+        sessionRoundTripCounter.record(1);
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(new String(INVALIDATE_CHANNEL, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Redis 명령 실행(pipelined이면 한 번에 보냄)
+     *
+     * @param timer    처리 시간 기록
+     * @param commands 명령 수(pipelined가 아닌 경우 왕복 횟수)
+     */
+    private void execute(Timer timer, Consumer<RedisConnection> action, int commands) {
+
+        RedisCallback<Object> callback = connection -> {
+            action.accept(connection);
+            return null;
+        };
+
+        long start = System.nanoTime();
+
+        try {
+            if (pipelined) {
+                sessionRedisTemplate.executePipelined(callback);
+                sessionRoundTripCounter.record(1);
+
+            } else {
+                sessionRedisTemplate.execute(callback);
+                sessionRoundTripCounter.record(commands);
+            }
+
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer storeTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("session.store")
+                .description("session store redis time")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static DistributionSummary payloadSummary(MeterRegistry meterRegistry, String operation) {
+        return DistributionSummary.builder("session.store.payload")
+                .description("session attribute bytes")
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static boolean isNoSuchKey(Throwable e) {
+
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("no such key")) {
+                return true;
+            }
+
+            if (t instanceof RedisPipelineException pipelineException) {
+                for (Throwable failed : pipelineException.getFailedCommands()) {
+                    if (isNoSuchKey(failed)) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static String key(String sessionId) {
+        return KEY_PREFIX + sessionId;
+    }
+
+    private static byte[] rawKey(String sessionId) {
+        return raw(key(sessionId));
+    }
+
+    private static byte[] raw(String str) {
+        return str.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,95 @@
+package kopo.poly.session;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 세션 저장소(Redis) 왕복(Round Trip) 횟수 통계
+ * <p>
+ * 요청을 처리하는 스레드에서 발생한 왕복 횟수는 요청별로 모으고(SessionRoundTripFilter),
+ * 그 외 스레드(마지막 접근 시간 저장 등)에서 발생한 왕복 횟수는 background로 모음
+ */
+public class SessionRoundTripCounter {
+
+    // 요청별 왕복 횟수 분포(0, 1, 2, 3, 4회 이상)
+    private static final int BUCKETS = 5;
+
+    private final ThreadLocal<int[]> current = new ThreadLocal<>();
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder requestRoundTrips = new LongAdder();
+    private final LongAdder backgroundRoundTrips = new LongAdder();
+    private final LongAccumulator maxPerRequest = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] distribution = new LongAdder[BUCKETS];
+
+    public SessionRoundTripCounter() {
+        for (int i = 0; i < BUCKETS; i++) {
+            distribution[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 왕복 횟수 기록(세션 저장소에서 Redis 명령 실행 시 호출)
+     */
+    public void record(int roundTrips) {
+
+        int[] counter = current.get();
+
+        if (counter != null) {
+            counter[0] += roundTrips;
+
+        } else {
+            backgroundRoundTrips.add(roundTrips);
+        }
+    }
+
+    /**
+     * 요청 처리 시작
+     */
+    public void begin() {
+        current.set(new int[1]);
+    }
+
+    /**
+     * 요청 처리 끝
+     *
+     * @return 요청 처리 중 발생한 왕복 횟수
+     */
+    public int end() {
+
+        int[] counter = current.get();
+        current.remove();
+
+        int roundTrips = counter == null ? 0 : counter[0];
+
+        requestCount.increment();
+        requestRoundTrips.add(roundTrips);
+        maxPerRequest.accumulate(roundTrips);
+        distribution[Math.min(roundTrips, BUCKETS - 1)].increment();
+
+        return roundTrips;
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getRequestRoundTrips() {
+        return requestRoundTrips.sum();
+    }
+
+    public long getBackgroundRoundTrips() {
+        return backgroundRoundTrips.sum();
+    }
+
+    public long getMaxPerRequest() {
+        return maxPerRequest.get();
+    }
+
+    /**
+     * 왕복 횟수가 roundTrips회인 요청 수(4 이상은 4회 이상 전체)
+     */
+    public long getRequestCount(int roundTrips) {
+        return distribution[Math.min(roundTrips, BUCKETS - 1)].sum();
+    }
+}
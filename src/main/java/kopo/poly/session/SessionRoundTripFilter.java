@@ -0,0 +1,40 @@
+package kopo.poly.session;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청별 세션 저장소(Redis) 왕복 횟수 측정
+ * - 세션 조회, 저장은 SessionRepositoryFilter에서 실행되므로 이 필터는 SessionRepositoryFilter보다 먼저 실행되어야 함
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SessionRoundTripFilter extends OncePerRequestFilter {
+
+    private final SessionRoundTripCounter sessionRoundTripCounter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        sessionRoundTripCounter.begin();
+
+        try {
+            filterChain.doFilter(request, response);
+
+        } finally {
+            int roundTrips = sessionRoundTripCounter.end();
+
+            if (log.isDebugEnabled()) {
+                log.debug("{} {} session round trips : {}", request.getMethod(), request.getRequestURI(), roundTrips);
+            }
+        }
+    }
+}
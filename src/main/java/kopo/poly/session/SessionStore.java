@@ -0,0 +1,68 @@
+package kopo.poly.session;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 세션 저장소(NearCacheSessionRepository가 사용하는 공유 저장소)
+ * <p>
+ * 세션 1개를 Hash 1개로 저장함(Spring Session RedisSessionRepository와 동일한 형식)
+ * - creationTime, lastAccessedTime : 밀리초(Long), maxInactiveInterval : 초(Integer)
+ * - 세션 속성 : "sessionAttr:" + 속성 이름
+ */
+public interface SessionStore {
+
+    String CREATION_TIME_KEY = "creationTime";
+
+    String LAST_ACCESSED_TIME_KEY = "lastAccessedTime";
+
+    String MAX_INACTIVE_INTERVAL_KEY = "maxInactiveInterval";
+
+    String ATTRIBUTE_PREFIX = "sessionAttr:";
+
+    /**
+     * 세션 전체 값 조회(HGETALL)
+     *
+     * @return 세션이 없으면 비어 있는 Map
+     */
+    Map<String, Object> load(String sessionId);
+
+    /**
+     * 변경된 값 저장 및 만료 시간 변경(HSET + EXPIREAT)
+     * - 값이 null인 항목은 삭제함(HDEL)
+     * - renamedFrom이 있으면 먼저 세션 아이디를 변경함(RENAME, 로그인 시 세션 고정 공격 방지)
+     *
+     * @param renamedFrom 변경 전 세션 아이디(변경하지 않은 경우 null)
+     */
+    void save(String sessionId, String renamedFrom, Map<String, Object> delta, Instant expireAt);
+
+    /**
+     * 여러 세션의 마지막 접근 시간을 한 번에 저장
+     * - 저장소에 없는(삭제, 만료된) 세션은 다시 만들지 않고 건너뜀
+     */
+    void touch(Collection<Touch> touches);
+
+    void delete(String sessionId);
+
+    /**
+     * 다른 서버에 세션 변경 알림 보내기
+     */
+    void publish(String message);
+
+    /**
+     * 다른 서버가 보낸 세션 변경 알림 받기
+     */
+    void subscribe(Consumer<String> listener);
+
+    /**
+     * 마지막 접근 시간 변경 정보
+     *
+     * @param sessionId        세션 아이디
+     * @param lastAccessedTime 마지막 접근 시간(밀리초)
+     * @param expireAt         만료 시간
+     */
+    record Touch(String sessionId, long lastAccessedTime, Instant expireAt) {
+    }
+}
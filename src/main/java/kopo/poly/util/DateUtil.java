@@ -1,13 +1,75 @@
 package kopo.poly.util;
 
-import java.text.SimpleDateFormat;
+import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Date;
-
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 날짜, 시간 변환
+ * - 출력 형식별 DateTimeFormatter는 한 번만 만들어 재사용함(DateTimeFormatter는 변경 불가능하여 여러 스레드에서 함께 사용 가능)
+ * - 현재 시간은 Clock 기준(테스트에서 시간 변경 가능)
+ */
 public class DateUtil {
 
+    /**
+     * 등록일시, 수정일시 기본 출력 형식
+     */
+    public static final String DATE_TIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
+
+    // 출력 형식별 DateTimeFormatter(형식 수가 적으므로 크기 제한 없음)
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    // 기존 문자열 날짜(yyyy-MM-dd HH:mm:ss, yyyy-MM-ddTHH:mm:ss.SSS, yyyy-MM-dd 등) 변환용
+    private static final DateTimeFormatter LENIENT_DATE_TIME = new DateTimeFormatterBuilder()
+            .appendPattern("uuuu-MM-dd")
+            .optionalStart()
+            .optionalStart().appendLiteral(' ').optionalEnd()
+            .optionalStart().appendLiteral('T').optionalEnd()
+            .appendPattern("HH:mm")
+            .optionalStart().appendPattern(":ss").optionalEnd()
+            .optionalStart().appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true).optionalEnd()
+            .optionalEnd()
+            .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
+            .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+            .parseDefaulting(ChronoField.SECOND_OF_MINUTE, 0)
+            .toFormatter();
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+
+    private DateUtil() {
+    }
+
+    /**
+     * 현재 시간 기준 Clock 변경(테스트용, null이면 시스템 시간)
+     */
+    public static void setClock(Clock newClock) {
+        clock = newClock == null ? Clock.systemDefaultZone() : newClock;
+    }
+
+    /**
+     * 현재 날짜, 시간(Clock 기준)
+     * - 여러 값(등록일시, 수정일시 등)에 같은 시간을 넣어야 하는 경우 한 번만 조회하여 사용함
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /**
+     * 출력 형식별 DateTimeFormatter(처음 사용할 때 만들고 이후 재사용함)
+     *
+     * @param fm 날짜 출력 형식
+     */
+    public static DateTimeFormatter getFormatter(String fm) {
+        return FORMATTERS.computeIfAbsent(fm, DateTimeFormatter::ofPattern);
+    }
+
     /**
      * 날짜, 시간 출력하기
      *
@@ -15,11 +77,7 @@ public class DateUtil {
      * @return date
      */
     public static String getDateTime(String fm) {
-
-        Date today = new Date();
-        SimpleDateFormat date = new SimpleDateFormat(fm);
-
-        return date.format(today);
+        return getFormatter(fm).format(ZonedDateTime.now(clock));
     }
 
     /**
@@ -32,6 +90,39 @@ public class DateUtil {
 
     }
 
+    /**
+     * 날짜, 시간 출력하기
+     *
+     * @param dateTime 날짜, 시간(null이면 null)
+     * @return 기본 형식(yyyy-MM-dd HH:mm:ss)
+     */
+    public static String format(LocalDateTime dateTime) {
+        return dateTime == null ? null : getFormatter(DATE_TIME_FORMAT).format(dateTime);
+    }
+
+    /**
+     * 문자열 날짜, 시간 → LocalDateTime
+     * - yyyy-MM-dd HH:mm:ss 외에 yyyy.MM.dd, yyyy/MM/dd, 날짜만 있는 값, T 구분자, 밀리초 포함 값도 변환함
+     *
+     * @param str 날짜, 시간(null, 빈 문자열이면 null)
+     */
+    public static LocalDateTime parse(String str) {
+
+        if (str == null || str.isBlank()) {
+            return null;
+        }
+
+        String value = str.trim();
+
+        // 날짜 구분자(., /)를 -로 변경
+        if (value.length() >= 10 && value.charAt(4) == value.charAt(7)
+                && (value.charAt(4) == '.' || value.charAt(4) == '/')) {
+            value = value.substring(0, 4) + '-' + value.substring(5, 7) + '-' + value.substring(8);
+        }
+
+        return LocalDateTime.parse(value, LENIENT_DATE_TIME);
+    }
+
     /**
      * Unix UTC 타입의 날짜, 시간 출력하기
      *
@@ -40,7 +131,7 @@ public class DateUtil {
      */
     public static String getLongDateTime(Object time) {
 
-        return getLongDateTime(time, "yyyy-MM-dd HH:mm:ss");
+        return getLongDateTime(time, DATE_TIME_FORMAT);
     }
 
     /**
@@ -51,7 +142,7 @@ public class DateUtil {
      */
     public static String getLongDateTime(Integer time) {
 
-        return getLongDateTime(time, "yyyy-MM-dd HH:mm:ss");
+        return getLongDateTime(time, DATE_TIME_FORMAT);
     }
 
     /**
@@ -75,9 +166,7 @@ public class DateUtil {
      */
     public static String getLongDateTime(Integer time, String fm) {
         Instant instant = Instant.ofEpochSecond(time);
-        return DateTimeFormatter.ofPattern(fm)
-                .withZone(ZoneId.systemDefault())
-                .format(instant);
+        return getFormatter(fm).format(instant.atZone(ZoneId.systemDefault()));
 
     }
 
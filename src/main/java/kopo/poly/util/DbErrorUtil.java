@@ -0,0 +1,39 @@
+package kopo.poly.util;
+
+import java.sql.SQLException;
+
+/**
+ * DB 오류 구분 유틸리티
+ */
+public class DbErrorUtil {
+
+    // MariaDB, MySQL 중복 키 오류 코드(ER_DUP_ENTRY)
+    private static final int MYSQL_DUPLICATE_KEY = 1062;
+
+    // 표준 SQLState 중복 키(unique_violation, H2, PostgreSQL 등)
+    private static final String SQL_STATE_UNIQUE_VIOLATION = "23505";
+
+    /**
+     * PK, Unique 제약 조건 중복 오류인지 확인
+     * - NOT NULL 등 다른 제약 조건 오류와 구분하기 위해 원인(SQLException)의 오류 코드로 판단함
+     *
+     * @param e Spring, Hibernate에서 발생한 예외
+     * @return 중복 키 오류 여부
+     */
+    public static boolean isDuplicateKey(Throwable e) {
+
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sqlException
+                    && (sqlException.getErrorCode() == MYSQL_DUPLICATE_KEY
+                    || SQL_STATE_UNIQUE_VIOLATION.equals(sqlException.getSQLState()))) {
+                return true;
+            }
+
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+
+        return false;
+    }
+}
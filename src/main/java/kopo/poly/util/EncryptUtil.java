@@ -1,16 +1,23 @@
 package kopo.poly.util;
 
-import javax.crypto.*;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 import java.nio.charset.StandardCharsets;
-import java.security.*;
-import java.util.Base64;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 암호화 유틸리티 클래스
  * - SHA-256 해시 암호화
  * - AES-128 CBC 대칭키 암호화/복호화
+ * - 버전 형식(AES GCM, 임의 IV) 컬럼 암호화/복호화
+ * <p>
+ * 암호화, 복호화 시간은 crypto.field(operation=encrypt, encrypt_all, decrypt)로 기록함
+ * - static 메서드에서 사용하므로 Spring Boot가 등록하는 전역 MeterRegistry(Metrics.globalRegistry)에 기록함
  */
 public class EncryptUtil {
 
@@ -32,6 +39,63 @@ public class EncryptUtil {
      */
     private static final String key = "PolyTechnic12345";
 
+    /**
+     * AES-128 CBC 암호화 엔진(키, Cipher 객체를 재사용함)
+     */
+    private static final FieldCipher fieldCipher = new FieldCipher(key.getBytes(StandardCharsets.UTF_8), ivBytes);
+
+    /**
+     * 버전 형식 컬럼 암호화 엔진
+     * - 서버 시작 시 CryptoConfig에서 설정 파일의 키(crypto.field.keys)로 등록함
+     * - 소스에 포함된 기존 AES-128 CBC 키를 사용하지 않도록 기본값은 없음(등록 전 사용하면 IllegalStateException)
+     */
+    private static volatile FieldEnvelopeCipher envelopeCipher;
+
+    // 컬럼 암호화, 복호화 시간
+    private static final Timer encryptTimer = fieldTimer("encrypt");
+    private static final Timer encryptAllTimer = fieldTimer("encrypt_all");
+    private static final Timer decryptTimer = fieldTimer("decrypt");
+
+    private static Timer fieldTimer(String operation) {
+        return Timer.builder("crypto.field")
+                .description("field encryption time")
+                .tag("operation", operation)
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * 버전 형식 컬럼 암호화 엔진 변경(CryptoConfig에서 호출)
+     */
+    public static void setEnvelopeCipher(FieldEnvelopeCipher cipher) {
+        envelopeCipher = cipher;
+    }
+
+    public static FieldEnvelopeCipher getEnvelopeCipher() {
+
+        FieldEnvelopeCipher cipher = envelopeCipher;
+
+        if (cipher == null) {
+            throw new IllegalStateException("field encryption key is not configured (crypto.field.keys)");
+        }
+
+        return cipher;
+    }
+
+    /**
+     * 기존 AES-128 CBC 키(소스에 포함된 키)와 같은 키인지 확인(CryptoConfig에서 현재 버전 키 검증에 사용)
+     */
+    public static boolean isLegacyKey(byte[] fieldKey) {
+        return MessageDigest.isEqual(key.getBytes(StandardCharsets.UTF_8), fieldKey);
+    }
+
+    /**
+     * AES-128 CBC 암호화 엔진 가져오기
+     * - 바이트 배열 암호화, 여러 값 한 번에 암호화(encryptAll/decryptAll)할 때 사용
+     */
+    public static FieldCipher getFieldCipher() {
+        return fieldCipher;
+    }
+
     /**
      * SHA-256 해시 함수로 문자열 암호화 (단방향)
      *
@@ -67,45 +131,82 @@ public class EncryptUtil {
      * @param str 평문 문자열
      * @return Base64로 인코딩된 암호문
      */
-    public static String encAES128CBC(String str)
-            throws NoSuchAlgorithmException, NoSuchPaddingException,
-            InvalidKeyException, InvalidAlgorithmParameterException,
-            IllegalBlockSizeException, BadPaddingException {
+    public static String encAES128CBC(String str) throws GeneralSecurityException {
+        return fieldCipher.encryptToBase64(str);
+    }
+
+    /**
+     * AES-128 CBC 방식으로 암호문 복호화
+     *
+     * @param str Base64로 인코딩된 암호문
+     * @return 복호화된 평문 문자열
+     */
+    public static String decAES128CBC(String str) throws GeneralSecurityException {
+        return fieldCipher.decryptFromBase64(str);
+    }
 
-        byte[] textBytes = str.getBytes(StandardCharsets.UTF_8);
+    /**
+     * 컬럼(필드) 암호화 - 현재 버전 키, 임의 IV를 사용하는 버전 형식으로 암호화
+     *
+     * @param str 평문 문자열
+     * @return "$"로 시작하는 버전 형식 암호문
+     */
+    public static String encField(String str) throws GeneralSecurityException {
 
-        SecretKeySpec keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
-        IvParameterSpec ivSpec = new IvParameterSpec(ivBytes);
+        long start = System.nanoTime();
 
-        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-        cipher.init(Cipher.ENCRYPT_MODE, keySpec, ivSpec);
+        try {
+            return getEnvelopeCipher().encrypt(str);
 
-        byte[] encrypted = cipher.doFinal(textBytes);
+        } finally {
+            encryptTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
 
-        return Base64.getEncoder().encodeToString(encrypted);
+    /**
+     * 여러 컬럼(필드) 값을 한 번에 암호화 - 회원 일괄 등록 등 대량 처리용
+     *
+     * @param pList 평문 문자열 목록
+     * @return "$"로 시작하는 버전 형식 암호문 목록(입력 순서와 같음)
+     */
+    public static List<String> encFieldAll(List<String> pList) throws GeneralSecurityException {
+
+        long start = System.nanoTime();
+
+        try {
+            return getEnvelopeCipher().encryptAll(pList);
+
+        } finally {
+            encryptAllTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
 
     /**
-     * AES-128 CBC 방식으로 암호문 복호화
+     * 컬럼(필드) 복호화 - 버전 형식, 기존 AES-128 CBC 형식 모두 복호화 가능
      *
-     * @param str Base64로 인코딩된 암호문
+     * @param str 암호문
      * @return 복호화된 평문 문자열
      */
-    public static String decAES128CBC(String str)
-            throws NoSuchAlgorithmException, NoSuchPaddingException,
-            InvalidKeyException, InvalidAlgorithmParameterException,
-            IllegalBlockSizeException, BadPaddingException {
+    public static String decField(String str) throws GeneralSecurityException {
 
-        byte[] encryptedBytes = Base64.getDecoder().decode(str);
+        long start = System.nanoTime();
 
-        SecretKeySpec keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
-        IvParameterSpec ivSpec = new IvParameterSpec(ivBytes);
+        try {
+            if (FieldEnvelopeCipher.isEnvelope(str)) {
+                return getEnvelopeCipher().decrypt(str);
+            }
 
-        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-        cipher.init(Cipher.DECRYPT_MODE, keySpec, ivSpec);
+            return decAES128CBC(str);
 
-        byte[] decrypted = cipher.doFinal(encryptedBytes);
+        } finally {
+            decryptTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
 
-        return new String(decrypted, StandardCharsets.UTF_8);
+    /**
+     * 현재 버전 키로 다시 암호화해야 하는지 확인(기존 CBC 형식이거나 이전 버전 키로 암호화된 경우)
+     */
+    public static boolean needsReEncrypt(String str) {
+        return !getEnvelopeCipher().isCurrentVersion(str);
     }
 }
@@ -0,0 +1,134 @@
+package kopo.poly.util;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 컬럼(필드) 암호화 엔진 - AES CBC(PKCS5Padding)
+ * <p>
+ * 호출할 때마다 Cipher.getInstance()로 Provider를 찾고 키를 다시 준비하는 비용을 줄이기 위해
+ * 키(SecretKeySpec)는 한 번만 만들고, 초기화(init)가 끝난 Cipher 객체를 재사용함
+ * - Cipher 객체는 Thread-safe하지 않으므로 풀(Pool)에서 꺼내 사용하고 다시 반납함
+ * - CBC 모드는 doFinal() 실행 후 init() 직후 상태로 돌아가므로 다시 init() 하지 않아도 됨
+ * - 가상 스레드(Virtual Thread)에서도 재사용되도록 ThreadLocal 대신 풀을 사용함
+ */
+public final class FieldCipher {
+
+    private static final String TRANSFORMATION = "AES/CBC/PKCS5Padding";
+
+    private final SecretKeySpec keySpec;
+
+    private final IvParameterSpec ivSpec;
+
+    // 암호화, 복호화용 Cipher 풀
+    private final BlockingQueue<Cipher> encryptPool;
+    private final BlockingQueue<Cipher> decryptPool;
+
+    /**
+     * @param key AES 키(16, 24, 32 바이트)
+     * @param iv  초기 벡터(16 바이트)
+     */
+    public FieldCipher(byte[] key, byte[] iv) {
+        this.keySpec = new SecretKeySpec(key, "AES");
+        this.ivSpec = new IvParameterSpec(iv);
+
+        int poolSize = Runtime.getRuntime().availableProcessors() * 2;
+
+        this.encryptPool = new ArrayBlockingQueue<>(poolSize);
+        this.decryptPool = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * 바이트 배열 암호화
+     */
+    public byte[] encrypt(byte[] plain) throws GeneralSecurityException {
+        Cipher cipher = borrow(encryptPool, Cipher.ENCRYPT_MODE);
+        byte[] res = cipher.doFinal(plain);
+        encryptPool.offer(cipher); // 풀이 가득 찬 경우 버림
+
+        return res;
+    }
+
+    /**
+     * 바이트 배열 복호화
+     */
+    public byte[] decrypt(byte[] encrypted) throws GeneralSecurityException {
+        Cipher cipher = borrow(decryptPool, Cipher.DECRYPT_MODE);
+        byte[] res = cipher.doFinal(encrypted); // 실패(BadPadding 등)한 Cipher는 상태를 알 수 없으므로 반납하지 않음
+        decryptPool.offer(cipher);
+
+        return res;
+    }
+
+    /**
+     * 문자열 암호화(Base64 인코딩, EncryptUtil.encAES128CBC와 같은 결과)
+     */
+    public String encryptToBase64(String str) throws GeneralSecurityException {
+        return Base64.getEncoder().encodeToString(encrypt(str.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Base64 암호문 복호화(EncryptUtil.decAES128CBC와 같은 결과)
+     */
+    public String decryptFromBase64(String str) throws GeneralSecurityException {
+        return new String(decrypt(Base64.getDecoder().decode(str)), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 여러 문자열을 한 번에 암호화(Cipher를 한 번만 꺼내서 모두 처리함)
+     */
+    public List<String> encryptAll(List<String> pList) throws GeneralSecurityException {
+        Cipher cipher = borrow(encryptPool, Cipher.ENCRYPT_MODE);
+        Base64.Encoder encoder = Base64.getEncoder();
+
+        List<String> rList = new ArrayList<>(pList.size());
+
+        for (String str : pList) {
+            rList.add(encoder.encodeToString(cipher.doFinal(str.getBytes(StandardCharsets.UTF_8))));
+        }
+
+        encryptPool.offer(cipher);
+
+        return rList;
+    }
+
+    /**
+     * 여러 Base64 암호문을 한 번에 복호화(Cipher를 한 번만 꺼내서 모두 처리함)
+     */
+    public List<String> decryptAll(List<String> pList) throws GeneralSecurityException {
+        Cipher cipher = borrow(decryptPool, Cipher.DECRYPT_MODE);
+        Base64.Decoder decoder = Base64.getDecoder();
+
+        List<String> rList = new ArrayList<>(pList.size());
+
+        for (String str : pList) {
+            rList.add(new String(cipher.doFinal(decoder.decode(str)), StandardCharsets.UTF_8));
+        }
+
+        decryptPool.offer(cipher);
+
+        return rList;
+    }
+
+    /**
+     * 풀에서 Cipher 꺼내기(없으면 새로 만들어 초기화함)
+     */
+    private Cipher borrow(BlockingQueue<Cipher> pool, int mode) throws GeneralSecurityException {
+        Cipher cipher = pool.poll();
+
+        if (cipher == null) {
+            cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(mode, keySpec, ivSpec);
+        }
+
+        return cipher;
+    }
+}
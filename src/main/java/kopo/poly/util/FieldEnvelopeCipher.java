@@ -0,0 +1,186 @@
+package kopo.poly.util;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 버전 정보가 포함된 컬럼(필드) 암호화 - AES GCM
+ * <p>
+ * 저장 형식 : "$" + Base64( 버전(1바이트) + IV(12바이트) + 암호문(인증 태그 16바이트 포함) )
+ * - 암호화할 때마다 임의의 IV를 사용하므로 같은 이메일도 매번 다른 암호문이 만들어짐
+ * - 버전별로 키를 관리하므로 새 키(버전)를 추가해도 이전 버전 암호문을 계속 복호화할 수 있음
+ * - 기존(AES CBC) 암호문은 Base64 문자만 사용하므로 "$"로 시작하는지로 구분할 수 있음
+ */
+public final class FieldEnvelopeCipher {
+
+    // 버전 형식 암호문 시작 문자
+    public static final char PREFIX = '$';
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+    private static final int IV_LENGTH = 12;
+
+    private static final int TAG_BITS = 128;
+
+    private static final int HEADER_LENGTH = 1 + IV_LENGTH;
+
+    // 버전별 키
+    private final Map<Integer, SecretKeySpec> keys = new HashMap<>();
+
+    // 암호화할 때 사용하는 버전
+    private final int currentVersion;
+
+    private final SecureRandom random = new SecureRandom();
+
+    // Cipher.getInstance() 비용을 줄이기 위한 Cipher 풀(GCM은 IV가 매번 달라 init은 매번 실행함)
+    private final BlockingQueue<Cipher> pool = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+
+    /**
+     * @param keys           버전(1~255)별 AES 키(16, 24, 32 바이트)
+     * @param currentVersion 암호화할 때 사용할 버전
+     */
+    public FieldEnvelopeCipher(Map<Integer, byte[]> keys, int currentVersion) {
+
+        keys.forEach((version, key) -> {
+            if (version < 1 || version > 255) {
+                throw new IllegalArgumentException("field key version must be 1~255 : " + version);
+            }
+            this.keys.put(version, new SecretKeySpec(key, "AES"));
+        });
+
+        if (!this.keys.containsKey(currentVersion)) {
+            throw new IllegalArgumentException("field key not found for current version : " + currentVersion);
+        }
+
+        this.currentVersion = currentVersion;
+    }
+
+    /**
+     * 현재 버전 키로 암호화
+     */
+    public String encrypt(String str) throws GeneralSecurityException {
+
+        byte[] plain = str.getBytes(StandardCharsets.UTF_8);
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+
+        Cipher cipher = borrow();
+        cipher.init(Cipher.ENCRYPT_MODE, keys.get(currentVersion), new GCMParameterSpec(TAG_BITS, iv));
+        cipher.updateAAD(new byte[]{(byte) currentVersion}); // 버전 값이 변조되지 않도록 인증 데이터에 포함
+
+        byte[] envelope = new byte[HEADER_LENGTH + cipher.getOutputSize(plain.length)];
+        envelope[0] = (byte) currentVersion;
+        System.arraycopy(iv, 0, envelope, 1, IV_LENGTH);
+
+        cipher.doFinal(plain, 0, plain.length, envelope, HEADER_LENGTH);
+        pool.offer(cipher);
+
+        return PREFIX + Base64.getEncoder().encodeToString(envelope);
+    }
+
+    /**
+     * 여러 문자열을 현재 버전 키로 한 번에 암호화(Cipher를 한 번만 꺼내서 모두 처리함)
+     * - GCM은 값마다 IV가 달라야 하므로 init은 값마다 실행함
+     */
+    public List<String> encryptAll(List<String> pList) throws GeneralSecurityException {
+
+        SecretKeySpec keySpec = keys.get(currentVersion);
+        byte[] aad = new byte[]{(byte) currentVersion};
+        Base64.Encoder encoder = Base64.getEncoder();
+
+        Cipher cipher = borrow();
+        List<String> rList = new ArrayList<>(pList.size());
+
+        for (String str : pList) {
+            byte[] plain = str.getBytes(StandardCharsets.UTF_8);
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+
+            cipher.init(Cipher.ENCRYPT_MODE, keySpec, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(aad);
+
+            byte[] envelope = new byte[HEADER_LENGTH + cipher.getOutputSize(plain.length)];
+            envelope[0] = (byte) currentVersion;
+            System.arraycopy(iv, 0, envelope, 1, IV_LENGTH);
+
+            cipher.doFinal(plain, 0, plain.length, envelope, HEADER_LENGTH);
+
+            rList.add(PREFIX + encoder.encodeToString(envelope));
+        }
+
+        pool.offer(cipher);
+
+        return rList;
+    }
+
+    /**
+     * 버전 형식 암호문 복호화
+     */
+    public String decrypt(String str) throws GeneralSecurityException {
+
+        byte[] envelope = Base64.getDecoder().decode(str.substring(1));
+
+        if (envelope.length < HEADER_LENGTH + TAG_BITS / 8) {
+            throw new GeneralSecurityException("invalid field envelope");
+        }
+
+        int version = envelope[0] & 0xFF;
+        SecretKeySpec keySpec = keys.get(version);
+
+        if (keySpec == null) {
+            throw new GeneralSecurityException("field key not found for version : " + version);
+        }
+
+        Cipher cipher = borrow();
+        cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(TAG_BITS, envelope, 1, IV_LENGTH));
+        cipher.updateAAD(envelope, 0, 1);
+
+        byte[] plain = cipher.doFinal(envelope, HEADER_LENGTH, envelope.length - HEADER_LENGTH);
+        pool.offer(cipher);
+
+        return new String(plain, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 버전 형식 암호문인지 확인
+     */
+    public static boolean isEnvelope(String str) {
+        return str != null && !str.isEmpty() && str.charAt(0) == PREFIX;
+    }
+
+    /**
+     * 현재 버전 키로 암호화된 값인지 확인(재암호화 대상 여부)
+     */
+    public boolean isCurrentVersion(String str) {
+
+        if (!isEnvelope(str) || str.length() < 5) {
+            return false;
+        }
+
+        // 버전은 첫 바이트이므로 Base64 앞 4글자(3바이트)만 디코딩함
+        byte[] head = Base64.getDecoder().decode(str.substring(1, 5));
+
+        return (head[0] & 0xFF) == currentVersion;
+    }
+
+    public int getCurrentVersion() {
+        return currentVersion;
+    }
+
+    private Cipher borrow() throws GeneralSecurityException {
+        Cipher cipher = pool.poll();
+
+        return cipher == null ? Cipher.getInstance(TRANSFORMATION) : cipher;
+    }
+}
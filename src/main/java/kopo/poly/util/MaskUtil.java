@@ -0,0 +1,48 @@
+package kopo.poly.util;
+
+/**
+ * 로그 출력용 개인정보 마스킹
+ * - 비밀번호 : 값이 있으면 "****"(길이도 알 수 없도록 고정 길이)
+ * - 이메일 : 아이디 앞 2글자만 남김(예 : hg*****@kopo.ac.kr)
+ */
+public class MaskUtil {
+
+    private static final String MASKED = "****";
+
+    private MaskUtil() {
+    }
+
+    /**
+     * 비밀번호 마스킹(null은 그대로 null)
+     */
+    public static String password(String str) {
+        return str == null ? null : MASKED;
+    }
+
+    /**
+     * 이메일 마스킹(@가 없으면 전체 마스킹)
+     */
+    public static String email(String str) {
+
+        if (str == null || str.isEmpty()) {
+            return str;
+        }
+
+        int at = str.indexOf('@');
+
+        if (at < 0) {
+            return MASKED;
+        }
+
+        int visible = Math.min(2, at);
+
+        StringBuilder sb = new StringBuilder(str.length());
+        sb.append(str, 0, visible);
+
+        for (int i = visible; i < at; i++) {
+            sb.append('*');
+        }
+
+        return sb.append(str, at, str.length()).toString();
+    }
+}
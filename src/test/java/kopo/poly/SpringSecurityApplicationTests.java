@@ -3,7 +3,7 @@ package kopo.poly;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "crypto.field.keys=1:MDEyMzQ1Njc4OWFiY2RlZg==") // 컬럼 암호화 키(필수)
 class SpringSecurityApplicationTests {
 
     @Test
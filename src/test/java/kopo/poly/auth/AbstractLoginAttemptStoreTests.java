@@ -0,0 +1,184 @@
+package kopo.poly.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LoginAttemptStore 구현체 공통 테스트(InMemory, Redis가 같은 규칙으로 동작하는지 확인)
+ */
+abstract class AbstractLoginAttemptStoreTests {
+
+    protected static final LoginThrottlePolicy POLICY = LoginThrottlePolicy.builder()
+            .window(Duration.ofMinutes(1))
+            .maxAttemptsPerUser(3)
+            .maxAttemptsPerIp(5)
+            .failureWindow(Duration.ofMinutes(15))
+            .maxFailures(3)
+            .lockDuration(Duration.ofMinutes(10))
+            .build();
+
+    protected MutableClock clock;
+
+    private LoginAttemptStore store;
+
+    protected abstract LoginAttemptStore createStore(LoginThrottlePolicy policy, Clock clock);
+
+    @BeforeEach
+    void setUpStore() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        store = createStore(POLICY, clock);
+    }
+
+    @Test
+    void attemptsOverUserLimitAreRejectedUntilWindowSlides() {
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.tryAcquire("hglee67", "10.0.0." + i).isAllowed()).isTrue();
+            clock.advance(Duration.ofSeconds(10));
+        }
+
+        LoginAttemptStore.Decision decision = store.tryAcquire("hglee67", "10.0.0.9");
+
+        assertThat(decision.status()).isEqualTo(LoginAttemptStore.Status.RATE_LIMITED);
+        assertThat(decision.retryAfterMillis()).isEqualTo(Duration.ofSeconds(30).toMillis());
+
+        // 첫 번째 시도가 window를 벗어나면 다시 시도 가능
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThat(store.tryAcquire("hglee67", "10.0.0.9").isAllowed()).isTrue();
+    }
+
+    @Test
+    void attemptsOverIpLimitAreRejectedForAnyUser() {
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(store.tryAcquire("user" + i, "10.0.0.1").isAllowed()).isTrue();
+        }
+
+        assertThat(store.tryAcquire("other", "10.0.0.1").status()).isEqualTo(LoginAttemptStore.Status.RATE_LIMITED);
+        assertThat(store.tryAcquire("other", "10.0.0.2").isAllowed()).isTrue();
+    }
+
+    @Test
+    void rejectedAttemptsAreNotCounted() {
+
+        for (int i = 0; i < 3; i++) {
+            store.tryAcquire("hglee67", "10.0.0.1");
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(store.tryAcquire("hglee67", "10.0.0.1").isAllowed()).isFalse();
+        }
+
+        clock.advance(Duration.ofMinutes(1));
+
+        assertThat(store.tryAcquire("hglee67", "10.0.0.1").isAllowed()).isTrue();
+    }
+
+    @Test
+    void attemptsRejectedByIpAreNotCountedForUser() {
+
+        for (int i = 0; i < 5; i++) {
+            store.tryAcquire("user" + i, "10.0.0.1");
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.tryAcquire("hglee67", "10.0.0.1").status()).isEqualTo(LoginAttemptStore.Status.RATE_LIMITED);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.tryAcquire("hglee67", "10.0.0.2").isAllowed()).isTrue();
+        }
+    }
+
+    @Test
+    void repeatedFailuresLockAccountTemporarily() {
+
+        assertThat(store.recordFailure("hglee67")).isFalse();
+        assertThat(store.recordFailure("hglee67")).isFalse();
+        assertThat(store.recordFailure("hglee67")).isTrue();
+
+        assertThat(store.isLocked("hglee67")).isTrue();
+        assertThat(store.isLocked("other")).isFalse();
+        assertThat(store.lockRemainingMillis("hglee67")).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(10).toMillis());
+        assertThat(store.lockRemainingMillis("other")).isZero();
+
+        LoginAttemptStore.Decision decision = store.tryAcquire("hglee67", "10.0.0.1");
+
+        assertThat(decision.status()).isEqualTo(LoginAttemptStore.Status.LOCKED);
+        assertThat(decision.retryAfterMillis()).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(10).toMillis());
+
+        clock.advance(Duration.ofMinutes(10));
+        expireLock("hglee67");
+
+        assertThat(store.isLocked("hglee67")).isFalse();
+        assertThat(store.tryAcquire("hglee67", "10.0.0.1").isAllowed()).isTrue();
+    }
+
+    @Test
+    void successResetsFailures() {
+
+        store.recordFailure("hglee67");
+        store.recordFailure("hglee67");
+        store.recordSuccess("hglee67");
+
+        assertThat(store.recordFailure("hglee67")).isFalse();
+        assertThat(store.isLocked("hglee67")).isFalse();
+    }
+
+    @Test
+    void failuresOutsideWindowAreForgotten() {
+
+        store.recordFailure("hglee67");
+        store.recordFailure("hglee67");
+
+        clock.advance(Duration.ofMinutes(16));
+
+        assertThat(store.recordFailure("hglee67")).isFalse();
+    }
+
+    /**
+     * 잠금 만료 처리(Redis는 Key 만료가 서버 시간 기준이므로 구현체에서 직접 처리함)
+     */
+    protected void expireLock(String userId) {
+    }
+
+    /**
+     * 테스트에서 시간을 변경할 수 있는 Clock
+     */
+    static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
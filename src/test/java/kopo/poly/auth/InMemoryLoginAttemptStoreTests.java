@@ -0,0 +1,11 @@
+package kopo.poly.auth;
+
+import java.time.Clock;
+
+class InMemoryLoginAttemptStoreTests extends AbstractLoginAttemptStoreTests {
+
+    @Override
+    protected LoginAttemptStore createStore(LoginThrottlePolicy policy, Clock clock) {
+        return new InMemoryLoginAttemptStore(policy, clock);
+    }
+}
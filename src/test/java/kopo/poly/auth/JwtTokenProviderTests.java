@@ -0,0 +1,87 @@
+package kopo.poly.auth;
+
+import kopo.poly.dto.TokenDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JwtTokenProvider 테스트(토큰 발급, 검증)
+ */
+class JwtTokenProviderTests {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    private AbstractLoginAttemptStoreTests.MutableClock clock;
+
+    private JwtTokenProvider provider;
+
+    private AuthInfo authInfo;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AbstractLoginAttemptStoreTests.MutableClock(Instant.now());
+        provider = new JwtTokenProvider(SECRET, "SpringSecurity", Duration.ofMinutes(10), Duration.ofDays(14), clock);
+        authInfo = new AuthInfo("hglee67", "이협건", AuthorityRegistry.parse("ROLE_USER,ROLE_ADMIN"), null);
+    }
+
+    @Test
+    void accessTokenIsConvertedToSameAuthInfo() {
+
+        TokenDTO token = provider.issue(authInfo);
+
+        Jwt jwt = provider.getAccessTokenDecoder().decode(token.accessToken());
+        AuthInfo rAuthInfo = JwtTokenProvider.toAuthInfo(jwt);
+
+        assertThat(rAuthInfo.userId()).isEqualTo("hglee67");
+        assertThat(rAuthInfo.userName()).isEqualTo("이협건");
+        assertThat(rAuthInfo.getAuthorities()).isEqualTo(authInfo.getAuthorities());
+        assertThat(rAuthInfo.isCredentialsErased()).isTrue();
+        assertThat(token.expiresIn()).isEqualTo(600);
+    }
+
+    @Test
+    void refreshTokenCannotBeUsedAsAccessToken() {
+
+        TokenDTO token = provider.issue(authInfo);
+
+        assertThat(provider.getRefreshTokenUserId(token.refreshToken())).isEqualTo("hglee67");
+
+        assertThatThrownBy(() -> provider.getAccessTokenDecoder().decode(token.refreshToken()))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> provider.getRefreshTokenUserId(token.accessToken()))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void expiredAccessTokenIsRejected() {
+
+        TokenDTO token = provider.issue(authInfo);
+
+        // 기본 허용 오차(60초)를 넘겨 만료시킴
+        clock.advance(Duration.ofMinutes(12));
+
+        assertThatThrownBy(() -> provider.getAccessTokenDecoder().decode(token.accessToken()))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void tokenSignedWithOtherKeyIsRejected() {
+
+        JwtTokenProvider other = new JwtTokenProvider("fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8),
+                "SpringSecurity", Duration.ofMinutes(10), Duration.ofDays(14), clock);
+
+        TokenDTO token = other.issue(authInfo);
+
+        assertThatThrownBy(() -> provider.getAccessTokenDecoder().decode(token.accessToken()))
+                .isInstanceOf(JwtException.class);
+    }
+}
@@ -0,0 +1,118 @@
+package kopo.poly.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.LockedException;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LoginThrottleFilter 테스트(메모리 저장소 사용)
+ */
+class LoginThrottleFilterTests {
+
+    private LoginAttemptStore store;
+
+    private LoginThrottleFilter filter;
+
+    @BeforeEach
+    void setUp() {
+
+        LoginThrottlePolicy policy = LoginThrottlePolicy.builder()
+                .window(Duration.ofMinutes(1))
+                .maxAttemptsPerUser(2)
+                .maxAttemptsPerIp(100)
+                .failureWindow(Duration.ofMinutes(15))
+                .maxFailures(5)
+                .lockDuration(Duration.ofMinutes(15))
+                .build();
+
+        store = new InMemoryLoginAttemptStore(policy, Clock.systemUTC());
+        filter = new LoginThrottleFilter(store, new LoginFailureHandler(new ObjectMapper(), store),
+                "/login/v1/loginProc", "userId");
+    }
+
+    @Test
+    void loginOverLimitIsRejectedWithoutReachingAuthentication() throws Exception {
+
+        assertThat(login("hglee67").getStatus()).isEqualTo(200);
+        assertThat(login("hglee67").getStatus()).isEqualTo(200);
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(loginRequest("hglee67"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void lockedAccountIsRejected() throws Exception {
+
+        for (int i = 0; i < 5; i++) {
+            store.recordFailure("hglee67");
+        }
+
+        assertThat(login("hglee67").getStatus()).isEqualTo(429);
+        assertThat(login("other").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void lockedAccountRetryAfterIsRemainingLockTime() throws Exception {
+
+        for (int i = 0; i < 5; i++) {
+            store.recordFailure("hglee67");
+        }
+
+        // 비밀번호 확인 전에 잠긴 계정으로 거절된 경우(LockedException)
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new LoginFailureHandler(new ObjectMapper(), store)
+                .onAuthenticationFailure(loginRequest("hglee67"), response, new LockedException("locked"));
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(response.getHeader(HttpHeaders.RETRY_AFTER)))
+                .isGreaterThan(60).isLessThanOrEqualTo(Duration.ofMinutes(15).toSeconds());
+    }
+
+    @Test
+    void otherRequestsAreNotThrottled() throws Exception {
+
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/login/v1/loginProc");
+            request.setParameter("userId", "hglee67");
+
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            assertThat(chain.getRequest()).isNotNull();
+        }
+
+        assertThat(store.tryAcquire("hglee67", "127.0.0.1").isAllowed()).isTrue();
+    }
+
+    private MockHttpServletResponse login(String userId) throws Exception {
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(loginRequest(userId), response, new MockFilterChain());
+
+        return response;
+    }
+
+    private static MockHttpServletRequest loginRequest(String userId) {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login/v1/loginProc");
+        request.setParameter("userId", userId);
+
+        return request;
+    }
+}
@@ -0,0 +1,104 @@
+package kopo.poly.auth;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RedisLoginAttemptStore 테스트(Embedded Redis)
+ * - Redis를 실행할 수 없는 환경에서는 테스트를 건너뜀
+ */
+class RedisLoginAttemptStoreTests extends AbstractLoginAttemptStoreTests {
+
+    private static RedisServer redisServer;
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate stringRedisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+
+        int port;
+
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        try {
+            redisServer = new RedisServer(port);
+            redisServer.start();
+
+        } catch (Exception e) {
+            redisServer = null;
+        }
+
+        Assumptions.assumeTrue(redisServer != null, "embedded redis is not available");
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        stringRedisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Override
+    protected LoginAttemptStore createStore(LoginThrottlePolicy policy, Clock clock) {
+        return new RedisLoginAttemptStore(stringRedisTemplate, policy, clock);
+    }
+
+    /**
+     * 아이디별 Key는 아이디 Hash Tag를 사용함(Redis Cluster에서 아이디마다 다른 slot)
+     */
+    @Test
+    void userKeysAreTaggedByUserId() {
+
+        LoginAttemptStore store = createStore(POLICY, clock);
+
+        store.tryAcquire("hglee67", "10.0.0.1");
+        store.recordFailure("hglee67");
+
+        assertThat(stringRedisTemplate.hasKey("login:{hglee67}:attempt")).isTrue();
+        assertThat(stringRedisTemplate.hasKey("login:{hglee67}:failure")).isTrue();
+        assertThat(stringRedisTemplate.hasKey("login:ip:10.0.0.1")).isTrue();
+    }
+
+    /**
+     * 잠금 Key는 Redis 서버 시간으로 만료되므로 직접 삭제함
+     */
+    @Override
+    protected void expireLock(String userId) {
+        stringRedisTemplate.delete("login:{" + userId + "}:lock");
+    }
+}
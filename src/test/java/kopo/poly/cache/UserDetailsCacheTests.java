@@ -0,0 +1,41 @@
+package kopo.poly.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.User;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserDetailsCache 테스트(다른 서버의 삭제 알림 처리)
+ */
+class UserDetailsCacheTests {
+
+    @Test
+    void evictFromOtherNodeReloadsUser() {
+
+        // Redis에 연결하지 않음(삭제 알림 전송 실패는 로그만 남김)
+        UserDetailsCache cache = new UserDetailsCache(new StringRedisTemplate(), new RedisMessageListenerContainer(),
+                100, Duration.ofMinutes(5));
+
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("hglee67", id -> User.withUsername(id).password("old-" + loads.incrementAndGet()).build());
+
+        // 다른 서버에서 비밀번호 변경 후 보낸 삭제 알림
+        cache.onMessage(new DefaultMessage(UserInfoCache.INVALIDATE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "other-node|hglee67".getBytes(StandardCharsets.UTF_8)), null);
+
+        String password = cache.get("hglee67",
+                id -> User.withUsername(id).password("new-" + loads.incrementAndGet()).build()).getPassword();
+
+        assertThat(password).isEqualTo("new-2");
+        assertThat(loads).hasValue(2);
+    }
+}
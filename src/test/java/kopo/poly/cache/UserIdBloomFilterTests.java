@@ -0,0 +1,83 @@
+package kopo.poly.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserIdBloomFilter 테스트(local 모드, 재생성 중 다른 서버 가입 아이디 반영)
+ */
+class UserIdBloomFilterTests {
+
+    private UserIdBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // Redis에 연결하지 않음(Pub/Sub 전송 실패는 로그만 남김)
+        filter = new UserIdBloomFilter(new StringRedisTemplate(), new RedisMessageListenerContainer(),
+                "local", 1000, 0.0001);
+    }
+
+    @Test
+    void idPublishedByOtherNodeDuringRebuildIsKept() {
+
+        Iterator<String> source = List.of("hglee67", "hglee68").iterator();
+
+        // DB 조회 중에 다른 서버에서 가입한 아이디가 전달됨
+        Iterator<String> userIds = new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public String next() {
+                filter.onMessage(message("other-node|newuser"), null);
+                return source.next();
+            }
+        };
+
+        filter.rebuild(userIds);
+
+        assertThat(filter.mightContain("hglee67")).isTrue();
+        assertThat(filter.mightContain("newuser")).isTrue();
+    }
+
+    @Test
+    void idPutDuringRebuildIsKept() {
+
+        Iterator<String> source = List.of("hglee67").iterator();
+
+        Iterator<String> userIds = new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public String next() {
+                filter.put("newuser");
+                return source.next();
+            }
+        };
+
+        filter.rebuild(userIds);
+
+        assertThat(filter.mightContain("newuser")).isTrue();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("user:id:bloom:add".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
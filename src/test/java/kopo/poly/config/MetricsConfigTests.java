@@ -0,0 +1,96 @@
+package kopo.poly.config;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kopo.poly.auth.ExecutorPasswordEncoder;
+import kopo.poly.auth.PasswordHashingExecutor;
+import kopo.poly.cache.UserDetailsCache;
+import kopo.poly.util.EncryptUtil;
+import kopo.poly.util.FieldEnvelopeCipher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영 지표 테스트(SimpleMeterRegistry)
+ */
+class MetricsConfigTests {
+
+    private SimpleMeterRegistry registry;
+
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        passwordHashingExecutor = new PasswordHashingExecutor(1, 10, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.destroy();
+        Metrics.removeRegistry(registry);
+        EncryptUtil.setEnvelopeCipher(null);
+    }
+
+    @Test
+    void passwordHashTimeAndQueueWaitAreRecorded() {
+
+        ExecutorPasswordEncoder encoder = new ExecutorPasswordEncoder(new BCryptPasswordEncoder(4),
+                passwordHashingExecutor, registry);
+        new MetricsConfig().passwordHashingMetrics(passwordHashingExecutor).bindTo(registry);
+
+        String hash = encoder.encode("1234");
+
+        assertThat(encoder.matches("1234", hash)).isTrue();
+        assertThat(encoder.matches("4321", hash)).isFalse();
+
+        assertThat(registry.get("auth.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(registry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+        assertThat(registry.get("auth.password.executor.wait").functionTimer().count()).isEqualTo(3);
+        assertThat(registry.get("auth.password.executor.rejected").functionCounter().count()).isZero();
+    }
+
+    @Test
+    void userDetailsCacheStatsAreExposed() {
+
+        UserDetailsCache userDetailsCache = new UserDetailsCache(new StringRedisTemplate(),
+                new RedisMessageListenerContainer(), 100, Duration.ofMinutes(5));
+
+        new MetricsConfig().userDetailsCacheMetrics(userDetailsCache).bindTo(registry);
+
+        userDetailsCache.get("hglee67", id -> User.withUsername(id).password("x").build());
+        userDetailsCache.get("hglee67", id -> User.withUsername(id).password("x").build());
+
+        assertThat(registry.get("cache.gets").tags("cache", "userDetails", "result", "hit").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("cache.gets").tags("cache", "userDetails", "result", "miss").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("cache.size").tag("cache", "userDetails").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void fieldEncryptionTimeIsRecordedToGlobalRegistry() throws Exception {
+
+        Metrics.addRegistry(registry);
+        EncryptUtil.setEnvelopeCipher(new FieldEnvelopeCipher(
+                Map.of(1, "0123456789abcdef".getBytes(StandardCharsets.UTF_8)), 1));
+
+        String encrypted = EncryptUtil.encField("hglee67@kopo.ac.kr");
+
+        assertThat(EncryptUtil.decField(encrypted)).isEqualTo("hglee67@kopo.ac.kr");
+
+        assertThat(registry.get("crypto.field").tag("operation", "encrypt").timer().count()).isEqualTo(1);
+        assertThat(registry.get("crypto.field").tag("operation", "decrypt").timer().count()).isEqualTo(1);
+    }
+}
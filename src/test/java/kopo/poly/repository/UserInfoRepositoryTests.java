@@ -0,0 +1,103 @@
+package kopo.poly.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import kopo.poly.dto.UserInfoDTO;
+import kopo.poly.repository.entity.UserInfoEntity;
+import kopo.poly.util.DbErrorUtil;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * UserInfoRepository 테스트(H2 메모리 DB)
+ * - 회원가입 시 실행되는 SQL 수를 Hibernate 통계로 확인함
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class UserInfoRepositoryTests {
+
+    @Autowired
+    private UserInfoRepository userInfoRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void newUserIsInsertedWithSingleStatement() {
+
+        UserInfoEntity pEntity = UserInfoDTO.of(newUser("hglee67"));
+
+        assertThat(pEntity.isNew()).isTrue();
+
+        userInfoRepository.saveAndFlush(pEntity);
+
+        // merge(SELECT) 없이 INSERT 1번만 실행되어야 함
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(pEntity.isNew()).isFalse();
+    }
+
+    @Test
+    void loadedUserIsNotNew() {
+
+        userInfoRepository.saveAndFlush(UserInfoDTO.of(newUser("hglee67")));
+        testEntityManager.clear();
+
+        UserInfoEntity rEntity = userInfoRepository.findById("hglee67").orElseThrow();
+
+        assertThat(rEntity.isNew()).isFalse();
+        assertThat(rEntity.getPassword()).startsWith("{bcrypt}");
+    }
+
+    @Test
+    void duplicateUserIdIsReportedAsDuplicateKey() {
+
+        userInfoRepository.saveAndFlush(UserInfoDTO.of(newUser("hglee67")));
+        testEntityManager.clear();
+
+        statistics.clear();
+
+        assertThatThrownBy(() -> userInfoRepository.saveAndFlush(UserInfoDTO.of(newUser("hglee67"))))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .satisfies(e -> assertThat(DbErrorUtil.isDuplicateKey(e)).isTrue());
+
+        // 가입 여부 조회 없이 INSERT만 시도함
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private static UserInfoDTO newUser(String userId) {
+        return UserInfoDTO.builder()
+                .userId(userId)
+                .userName("이협건")
+                .password("{bcrypt}$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z7aF5Ww6pvzpwYV0j8Mw4z1e")
+                .email("$AQIDBAUGBwgJCgsMDQ4PEA==")
+                .addr1("서울")
+                .addr2("강서구")
+                .roles("ROLE_USER")
+                .regId(userId)
+                .regDt("2024-01-01 00:00:00")
+                .chgId(userId)
+                .chgDt("2024-01-01 00:00:00")
+                .build();
+    }
+}
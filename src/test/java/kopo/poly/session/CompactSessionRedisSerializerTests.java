@@ -0,0 +1,51 @@
+package kopo.poly.session;
+
+import kopo.poly.auth.AuthInfo;
+import kopo.poly.auth.AuthorityRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CompactSessionRedisSerializer 테스트(이전 형식 세션 값 읽기)
+ */
+class CompactSessionRedisSerializerTests {
+
+    /**
+     * 이전 형식 AuthInfo(record AuthInfo(UserInfoDTO userInfoDTO))를 JDK 직렬화한 값
+     */
+    private static final String LEGACY_AUTH_INFO =
+            "rO0ABXNyABdrb3BvLnBvbHkuYXV0aC5BdXRoSW5mbwAAAAAAAAAAAgABTAALdXNlckluZm9EVE90ABtMa29wby9wb2x5L2R0by9V"
+            + "c2VySW5mb0RUTzt4cHNyABlrb3BvLnBvbHkuZHRvLlVzZXJJbmZvRFRPAAAAAAAAAAACAAxMAAVhZGRyMXQAEkxqYXZhL2xhbmcv"
+            + "U3RyaW5nO0wABWFkZHIycQB+AARMAAVjaGdEdHEAfgAETAAFY2hnSWRxAH4ABEwABWVtYWlscQB+AARMAAhleGlzdHNZbnEAfgAE"
+            + "TAAIcGFzc3dvcmRxAH4ABEwABXJlZ0R0cQB+AARMAAVyZWdJZHEAfgAETAAFcm9sZXNxAH4ABEwABnVzZXJJZHEAfgAETAAIdXNl"
+            + "ck5hbWVxAH4ABHhwdAAG7ISc7Jq4dAAG6rCV7IScdAATMjAyNC0wMS0wMSAwMDowMDowMHQAB2hnbGVlNjd0AANlbmNwdAALJDJh"
+            + "JDEwJGhhc2hxAH4ACHEAfgAJdAAJUk9MRV9VU0VScQB+AAl0AAnsnbTtmJHqsbQ=";
+
+    private final CompactSessionRedisSerializer serializer =
+            new CompactSessionRedisSerializer(getClass().getClassLoader(), true);
+
+    @Test
+    void legacyJdkAuthInfoIsTreatedAsAbsent() {
+
+        Object res = serializer.deserialize(Base64.getDecoder().decode(LEGACY_AUTH_INFO));
+
+        // 회원아이디가 없는 AuthInfo로 읽히지 않고 세션 값이 없는 것으로 처리되어 다시 로그인함
+        assertThat(res).isNull();
+        assertThat(serializer.getJdkReadErrorCount()).isEqualTo(1);
+    }
+
+    @Test
+    void authInfoIsReadBack() {
+
+        AuthInfo authInfo = new AuthInfo("hglee67", "이협건", AuthorityRegistry.parse("ROLE_USER"), null);
+
+        AuthInfo res = (AuthInfo) serializer.deserialize(serializer.serialize(authInfo));
+
+        assertThat(res.userId()).isEqualTo("hglee67");
+        assertThat(res.roles()).isEqualTo("ROLE_USER");
+        assertThat(serializer.getJdkReadErrorCount()).isZero();
+    }
+}
@@ -0,0 +1,122 @@
+package kopo.poly.session;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 테스트용 세션 저장소(Redis 대신 사용)
+ * - 여러 NearCacheSessionRepository가 함께 사용하여 여러 서버를 흉내냄
+ * - 값은 CompactSessionRedisSerializer로 변환하여 저장하므로 서버 간 객체를 공유하지 않음
+ */
+class InMemorySessionStore implements SessionStore {
+
+    private final CompactSessionRedisSerializer serializer =
+            new CompactSessionRedisSerializer(getClass().getClassLoader(), true);
+
+    private final Map<String, Map<String, byte[]>> hashes = new ConcurrentHashMap<>();
+
+    private final Map<String, Instant> expireAts = new ConcurrentHashMap<>();
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    // 저장소 호출 수(Redis 왕복 횟수에 해당)
+    final AtomicInteger loadCount = new AtomicInteger();
+    final AtomicInteger saveCount = new AtomicInteger();
+    final AtomicInteger touchCount = new AtomicInteger();
+
+    @Override
+    public Map<String, Object> load(String sessionId) {
+
+        loadCount.incrementAndGet();
+
+        Instant expireAt = expireAts.get(sessionId);
+
+        if (expireAt != null && expireAt.isBefore(Instant.now())) {
+            delete(sessionId);
+        }
+
+        Map<String, Object> res = new HashMap<>();
+
+        hashes.getOrDefault(sessionId, Map.of()).forEach((field, value) -> res.put(field, serializer.deserialize(value)));
+
+        return res;
+    }
+
+    @Override
+    public void save(String sessionId, String renamedFrom, Map<String, Object> delta, Instant expireAt) {
+
+        saveCount.incrementAndGet();
+
+        if (renamedFrom != null) {
+            Map<String, byte[]> renamed = hashes.remove(renamedFrom);
+
+            if (renamed != null) {
+                hashes.put(sessionId, renamed);
+                expireAts.remove(renamedFrom);
+            }
+        }
+
+        Map<String, byte[]> hash = hashes.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>());
+
+        delta.forEach((field, value) -> {
+            if (value == null) {
+                hash.remove(field);
+
+            } else {
+                hash.put(field, serializer.serialize(value));
+            }
+        });
+
+        expireAts.put(sessionId, expireAt);
+    }
+
+    @Override
+    public void touch(Collection<Touch> touches) {
+
+        touchCount.incrementAndGet();
+
+        // 세션이 있는 경우에만 저장(RedisSessionStore와 동일)
+        for (Touch touch : touches) {
+            Map<String, byte[]> hash = hashes.get(touch.sessionId());
+
+            if (hash != null) {
+                hash.put(LAST_ACCESSED_TIME_KEY, serializer.serialize(touch.lastAccessedTime()));
+                expireAts.put(touch.sessionId(), touch.expireAt());
+            }
+        }
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        hashes.remove(sessionId);
+        expireAts.remove(sessionId);
+    }
+
+    @Override
+    public void publish(String message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    Object storedValue(String sessionId, String field) {
+
+        byte[] value = hashes.getOrDefault(sessionId, Map.of()).get(field);
+
+        return value == null ? null : serializer.deserialize(value);
+    }
+
+    boolean exists(String sessionId) {
+        return hashes.containsKey(sessionId);
+    }
+}
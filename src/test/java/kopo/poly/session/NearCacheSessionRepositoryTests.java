@@ -0,0 +1,250 @@
+package kopo.poly.session;
+
+import kopo.poly.auth.AuthInfo;
+import kopo.poly.dto.UserInfoDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NearCacheSessionRepository 테스트
+ * - 서버 2대(nodeA, nodeB)가 하나의 저장소(InMemorySessionStore)를 함께 사용하는 상황을 흉내냄
+ */
+class NearCacheSessionRepositoryTests {
+
+    private static final Duration TOUCH_INTERVAL = Duration.ofMinutes(1);
+
+    private static final Duration MAX_INACTIVE_INTERVAL = Duration.ofMinutes(30);
+
+    private InMemorySessionStore store;
+
+    private NearCacheSessionRepository nodeA;
+
+    private NearCacheSessionRepository nodeB;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemorySessionStore();
+        nodeA = new NearCacheSessionRepository(store, 100, Duration.ofMinutes(1), TOUCH_INTERVAL, MAX_INACTIVE_INTERVAL);
+        nodeB = new NearCacheSessionRepository(store, 100, Duration.ofMinutes(1), TOUCH_INTERVAL, MAX_INACTIVE_INTERVAL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.destroy();
+        nodeB.destroy();
+    }
+
+    @Test
+    void savedSessionIsVisibleOnOtherNode() {
+
+        String id = saveNewSession(nodeA);
+
+        NearCacheSessionRepository.NearCacheSession session = nodeB.findById(id);
+
+        assertThat(session).isNotNull();
+        assertThat((String) session.getAttribute("SS_USER_ID")).isEqualTo("hglee67");
+        assertThat(session.getMaxInactiveInterval()).isEqualTo(MAX_INACTIVE_INTERVAL);
+    }
+
+    @Test
+    void storedFieldsMatchSpringSessionFormat() {
+
+        String id = saveNewSession(nodeA);
+
+        assertThat(store.storedValue(id, SessionStore.CREATION_TIME_KEY)).isInstanceOf(Long.class);
+        assertThat(store.storedValue(id, SessionStore.LAST_ACCESSED_TIME_KEY)).isInstanceOf(Long.class);
+        assertThat(store.storedValue(id, SessionStore.MAX_INACTIVE_INTERVAL_KEY)).isEqualTo(1800);
+        assertThat(store.storedValue(id, "sessionAttr:SS_USER_ID")).isEqualTo("hglee67");
+    }
+
+    @Test
+    void cachedSessionIsReadWithoutStore() {
+
+        String id = saveNewSession(nodeA);
+
+        nodeA.findById(id);
+        nodeA.findById(id);
+
+        assertThat(store.loadCount.get()).isZero();
+        assertThat(nodeA.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void lastAccessedTimeTouchesAreCoalesced() {
+
+        String id = saveNewSession(nodeA);
+        Instant last = Instant.now();
+
+        for (int i = 1; i <= 3; i++) {
+            NearCacheSessionRepository.NearCacheSession session = nodeA.findById(id);
+            last = Instant.now().plusSeconds(i);
+            session.setLastAccessedTime(last);
+            nodeA.save(session);
+        }
+
+        assertThat(store.saveCount.get()).isEqualTo(1);
+        assertThat(store.touchCount.get()).isZero();
+        assertThat(nodeA.findById(id).getLastAccessedTime().toEpochMilli()).isEqualTo(last.toEpochMilli());
+
+        nodeA.flushTouches();
+
+        assertThat(store.touchCount.get()).isEqualTo(1);
+        assertThat(store.storedValue(id, SessionStore.LAST_ACCESSED_TIME_KEY)).isEqualTo(last.toEpochMilli());
+    }
+
+    @Test
+    void touchIsWrittenImmediatelyWhenStoreExpiryIsNear() {
+
+        NearCacheSessionRepository.NearCacheSession session = nodeA.createSession();
+        session.setMaxInactiveInterval(TOUCH_INTERVAL);
+        nodeA.save(session);
+
+        NearCacheSessionRepository.NearCacheSession found = nodeA.findById(session.getId());
+        found.setLastAccessedTime(Instant.now().plusSeconds(1));
+        nodeA.save(found);
+
+        assertThat(store.touchCount.get()).isEqualTo(1);
+        assertThat(nodeA.getTouchCoalescedCount()).isZero();
+    }
+
+    @Test
+    void attributeChangeInvalidatesOtherNode() {
+
+        String id = saveNewSession(nodeA);
+
+        // nodeB 캐시에 저장
+        nodeB.findById(id);
+
+        NearCacheSessionRepository.NearCacheSession session = nodeA.findById(id);
+        session.setAttribute("SS_USER_NAME", "이협건");
+        nodeA.save(session);
+
+        assertThat(nodeB.getInvalidationCount()).isEqualTo(1);
+        assertThat((String) nodeB.findById(id).getAttribute("SS_USER_NAME")).isEqualTo("이협건");
+        assertThat((String) nodeA.findById(id).getAttribute("SS_USER_NAME")).isEqualTo("이협건");
+    }
+
+    @Test
+    void removedAttributeIsDeletedFromStore() {
+
+        String id = saveNewSession(nodeA);
+
+        NearCacheSessionRepository.NearCacheSession session = nodeA.findById(id);
+        session.removeAttribute("SS_USER_ID");
+        nodeA.save(session);
+
+        assertThat(store.storedValue(id, "sessionAttr:SS_USER_ID")).isNull();
+        assertThat((String) nodeB.findById(id).getAttribute("SS_USER_ID")).isNull();
+    }
+
+    @Test
+    void deletedSessionIsGoneOnAllNodes() {
+
+        String id = saveNewSession(nodeA);
+
+        nodeB.findById(id);
+        nodeA.deleteById(id);
+
+        assertThat(store.exists(id)).isFalse();
+        assertThat(nodeA.findById(id)).isNull();
+        assertThat(nodeB.findById(id)).isNull();
+    }
+
+    @Test
+    void changedSessionIdIsRenamed() {
+
+        String oldId = saveNewSession(nodeA);
+
+        nodeB.findById(oldId);
+
+        NearCacheSessionRepository.NearCacheSession session = nodeA.findById(oldId);
+        String newId = session.changeSessionId();
+        nodeA.save(session);
+
+        assertThat(newId).isNotEqualTo(oldId);
+        assertThat(store.saveCount.get()).isEqualTo(2); // 아이디 변경과 저장을 한 번에 처리
+        assertThat(store.exists(oldId)).isFalse();
+        assertThat(nodeB.findById(oldId)).isNull();
+        assertThat((String) nodeB.findById(newId).getAttribute("SS_USER_ID")).isEqualTo("hglee67");
+    }
+
+    @Test
+    void withoutLocalCacheEveryReadGoesToStore() {
+
+        NearCacheSessionRepository batchOnly =
+                new NearCacheSessionRepository(store, 0, Duration.ofMinutes(1), TOUCH_INTERVAL, MAX_INACTIVE_INTERVAL);
+
+        try {
+            String id = saveNewSession(batchOnly);
+
+            NearCacheSessionRepository.NearCacheSession session = batchOnly.findById(id);
+            session.setLastAccessedTime(Instant.now().plusSeconds(1));
+            batchOnly.save(session);
+
+            assertThat(batchOnly.findById(id)).isNotNull();
+            assertThat(store.loadCount.get()).isEqualTo(2);
+            assertThat(batchOnly.size()).isZero();
+
+            // 마지막 접근 시간은 메모리 캐시가 없어도 모아서 저장함
+            assertThat(store.touchCount.get()).isZero();
+            assertThat(batchOnly.findById(id).getLastAccessedTime()).isAfter(Instant.now());
+
+        } finally {
+            batchOnly.destroy();
+        }
+    }
+
+    @Test
+    void expiredSessionIsNotReturned() {
+
+        NearCacheSessionRepository.NearCacheSession session = nodeA.createSession();
+        session.setMaxInactiveInterval(Duration.ofMinutes(1));
+        session.setLastAccessedTime(Instant.now().minus(Duration.ofMinutes(10)));
+        nodeA.save(session);
+
+        assertThat(nodeA.findById(session.getId())).isNull();
+        assertThat(nodeB.findById(session.getId())).isNull();
+    }
+
+    @Test
+    void securityContextIsSharedBetweenNodes() {
+
+        AuthInfo authInfo = AuthInfo.from(UserInfoDTO.builder()
+                .userId("hglee67")
+                .userName("이협건")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z7aF5Ww6pvzpwYV0j8Mw4z1e")
+                .roles("ROLE_USER")
+                .build()).withoutCredentials();
+
+        NearCacheSessionRepository.NearCacheSession session = nodeA.createSession();
+        session.setAttribute("SPRING_SECURITY_CONTEXT", new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(authInfo, null, authInfo.getAuthorities())));
+        nodeA.save(session);
+
+        SecurityContext context = nodeB.findById(session.getId()).getAttribute("SPRING_SECURITY_CONTEXT");
+        AuthInfo principal = (AuthInfo) context.getAuthentication().getPrincipal();
+
+        assertThat(context.getAuthentication().isAuthenticated()).isTrue();
+        assertThat(principal.userId()).isEqualTo("hglee67");
+        assertThat(principal.isCredentialsErased()).isTrue();
+        assertThat(principal.roles()).isEqualTo("ROLE_USER");
+    }
+
+    private String saveNewSession(NearCacheSessionRepository repository) {
+
+        NearCacheSessionRepository.NearCacheSession session = repository.createSession();
+        session.setAttribute("SS_USER_ID", "hglee67");
+        repository.save(session);
+
+        return session.getId();
+    }
+}
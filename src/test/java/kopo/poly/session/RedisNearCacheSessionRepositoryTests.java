@@ -0,0 +1,316 @@
+package kopo.poly.session;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * NearCacheSessionRepository + RedisSessionStore(pipelined) 테스트(Embedded Redis)
+ * - 서버 2대(nodeA, nodeB)가 각자의 RedisMessageListenerContainer로 하나의 Redis를 함께 사용하는 상황을 흉내냄
+ * - Redis를 실행할 수 없는 환경에서는 테스트를 건너뜀
+ */
+class RedisNearCacheSessionRepositoryTests {
+
+    private static final Duration TOUCH_INTERVAL = Duration.ofMinutes(1);
+
+    private static final Duration MAX_INACTIVE_INTERVAL = Duration.ofMinutes(30);
+
+    private static final String KEY_PREFIX = "spring:session:sessions:";
+
+    private static final long WAIT_MILLIS = 5000;
+
+    private static RedisServer redisServer;
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private RedisMessageListenerContainer containerA;
+
+    private RedisMessageListenerContainer containerB;
+
+    private SessionRoundTripCounter roundTripCounter;
+
+    private NearCacheSessionRepository nodeA;
+
+    private NearCacheSessionRepository nodeB;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+
+        int port;
+
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        try {
+            redisServer = new RedisServer(port);
+            redisServer.start();
+
+        } catch (Exception e) {
+            redisServer = null;
+        }
+
+        Assumptions.assumeTrue(redisServer != null, "embedded redis is not available");
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        stringRedisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        roundTripCounter = new SessionRoundTripCounter();
+        containerA = startContainer();
+        containerB = startContainer();
+        nodeA = createNode(containerA);
+        nodeB = createNode(containerB);
+
+        // 두 서버의 구독이 끝날 때까지 대기(알림 채널 구독은 비동기로 처리됨)
+        long invalidationA = nodeA.getInvalidationCount();
+        long invalidationB = nodeB.getInvalidationCount();
+
+        waitUntil(() -> {
+            stringRedisTemplate.convertAndSend("spring:session:near-cache:invalidate", "probe|probe");
+            return nodeA.getInvalidationCount() > invalidationA && nodeB.getInvalidationCount() > invalidationB;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+
+        if (nodeA != null) {
+            nodeA.destroy();
+            nodeB.destroy();
+            containerA.destroy();
+            containerB.destroy();
+        }
+    }
+
+    @Test
+    void savedSessionIsVisibleOnOtherNode() {
+
+        String id = saveNewSession(nodeA);
+
+        NearCacheSessionRepository.NearCacheSession session = nodeB.findById(id);
+
+        assertThat(session).isNotNull();
+        assertThat((String) session.getAttribute("SS_USER_ID")).isEqualTo("hglee67");
+        assertThat(session.getMaxInactiveInterval()).isEqualTo(MAX_INACTIVE_INTERVAL);
+    }
+
+    @Test
+    void attributeChangeInvalidatesOtherNode() {
+
+        String id = saveNewSession(nodeA);
+
+        // nodeB 캐시에 저장
+        nodeB.findById(id);
+        assertThat(nodeB.size()).isEqualTo(1);
+
+        NearCacheSessionRepository.NearCacheSession session = nodeA.findById(id);
+        session.setAttribute("SS_USER_NAME", "이협건");
+        nodeA.save(session);
+
+        // Redis Pub/Sub으로 nodeB 캐시 삭제
+        waitUntil(() -> nodeB.size() == 0);
+
+        long missB = nodeB.getMissCount();
+
+        assertThat((String) nodeB.findById(id).getAttribute("SS_USER_NAME")).isEqualTo("이협건");
+        assertThat(nodeB.getMissCount()).isEqualTo(missB + 1);
+        assertThat((String) nodeA.findById(id).getAttribute("SS_USER_NAME")).isEqualTo("이협건");
+    }
+
+    @Test
+    void changedSessionIdIsSavedInOnePipeline() {
+
+        String oldId = saveNewSession(nodeA);
+
+        nodeB.findById(oldId);
+        assertThat(nodeB.size()).isEqualTo(1);
+
+        NearCacheSessionRepository.NearCacheSession session = nodeA.findById(oldId);
+        String newId = session.changeSessionId();
+        session.setAttribute("SS_USER_NAME", "이협건");
+        session.removeAttribute("SS_USER_ID");
+
+        long before = roundTripCounter.getBackgroundRoundTrips();
+
+        nodeA.save(session);
+
+        // 저장 1회(RENAME, HDEL, HMSET, PEXPIREAT) + 알림 2회(변경 전, 후 아이디)
+        assertThat(roundTripCounter.getBackgroundRoundTrips() - before).isEqualTo(3);
+
+        assertThat(stringRedisTemplate.hasKey(KEY_PREFIX + oldId)).isFalse();
+        assertThat(stringRedisTemplate.<String, Object>opsForHash().keys(KEY_PREFIX + newId))
+                .contains("sessionAttr:SS_USER_NAME", SessionStore.CREATION_TIME_KEY)
+                .doesNotContain("sessionAttr:SS_USER_ID");
+        assertThat(stringRedisTemplate.getExpire(KEY_PREFIX + newId, TimeUnit.MILLISECONDS)).isPositive();
+
+        waitUntil(() -> nodeB.size() == 0);
+
+        assertThat(nodeB.findById(oldId)).isNull();
+        assertThat((String) nodeB.findById(newId).getAttribute("SS_USER_NAME")).isEqualTo("이협건");
+    }
+
+    @Test
+    void renameOfExpiredSessionIsIgnored() {
+
+        String oldId = saveNewSession(nodeA);
+
+        NearCacheSessionRepository.NearCacheSession session = nodeA.findById(oldId);
+        session.changeSessionId();
+
+        // 다른 요청에서 세션이 만료된 상황
+        stringRedisTemplate.delete(KEY_PREFIX + oldId);
+
+        assertThatCode(() -> nodeA.save(session)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void deletedSessionIsGoneOnAllNodes() {
+
+        String id = saveNewSession(nodeA);
+
+        nodeB.findById(id);
+        assertThat(nodeB.size()).isEqualTo(1);
+
+        nodeA.deleteById(id);
+
+        waitUntil(() -> nodeB.size() == 0);
+
+        assertThat(stringRedisTemplate.hasKey(KEY_PREFIX + id)).isFalse();
+        assertThat(nodeA.findById(id)).isNull();
+        assertThat(nodeB.findById(id)).isNull();
+    }
+
+    @Test
+    void deleteOnOtherNodeDropsPendingTouch() {
+
+        String id = saveNewSession(nodeA);
+        touchLater(nodeA, id);
+
+        nodeB.deleteById(id);
+
+        waitUntil(() -> nodeA.size() == 0);
+
+        nodeA.flushTouches();
+
+        assertThat(stringRedisTemplate.hasKey(KEY_PREFIX + id)).isFalse();
+    }
+
+    @Test
+    void touchDoesNotRecreateDeletedSession() {
+
+        String id = saveNewSession(nodeA);
+        touchLater(nodeA, id);
+
+        // 변경 알림을 보내지 않는 서버(RedisSessionRepository)에서 삭제한 상황
+        stringRedisTemplate.delete(KEY_PREFIX + id);
+
+        nodeA.flushTouches();
+
+        assertThat(stringRedisTemplate.hasKey(KEY_PREFIX + id)).isFalse();
+        assertThat(nodeA.getTouchWrittenCount()).isEqualTo(1);
+    }
+
+    private NearCacheSessionRepository createNode(RedisMessageListenerContainer container) {
+
+        RedisSessionStore store = new RedisSessionStore(connectionFactory,
+                new CompactSessionRedisSerializer(getClass().getClassLoader(), true),
+                container, roundTripCounter, true, new SimpleMeterRegistry());
+
+        return new NearCacheSessionRepository(store, 100, Duration.ofMinutes(1), TOUCH_INTERVAL, MAX_INACTIVE_INTERVAL);
+    }
+
+    private static RedisMessageListenerContainer startContainer() throws Exception {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+
+        return container;
+    }
+
+    /**
+     * 마지막 접근 시간 변경(바로 저장하지 않고 모아둠)
+     */
+    private static void touchLater(NearCacheSessionRepository repository, String id) {
+
+        NearCacheSessionRepository.NearCacheSession session = repository.findById(id);
+        session.setLastAccessedTime(Instant.now().plusSeconds(1));
+        repository.save(session);
+
+        assertThat(repository.getTouchCoalescedCount()).isEqualTo(1);
+    }
+
+    private String saveNewSession(NearCacheSessionRepository repository) {
+
+        NearCacheSessionRepository.NearCacheSession session = repository.createSession();
+        session.setAttribute("SS_USER_ID", "hglee67");
+        repository.save(session);
+
+        return session.getId();
+    }
+
+    /**
+     * Pub/Sub 알림은 비동기로 전달되므로 조건을 만족할 때까지 대기함
+     */
+    private static void waitUntil(BooleanSupplier condition) {
+
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("wait timeout").isLessThan(deadline);
+
+            try {
+                Thread.sleep(20);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
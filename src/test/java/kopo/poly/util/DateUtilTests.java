@@ -0,0 +1,64 @@
+package kopo.poly.util;
+
+import kopo.poly.repository.entity.LegacyDateTimeConverter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DateUtil 테스트(형식 재사용, Clock, 기존 문자열 날짜 변환)
+ */
+class DateUtilTests {
+
+    @AfterEach
+    void tearDown() {
+        DateUtil.setClock(null);
+    }
+
+    @Test
+    void formatterIsReusedPerPattern() {
+        assertThat(DateUtil.getFormatter(DateUtil.DATE_TIME_FORMAT))
+                .isSameAs(DateUtil.getFormatter(DateUtil.DATE_TIME_FORMAT));
+    }
+
+    @Test
+    void currentTimeFollowsClock() {
+
+        DateUtil.setClock(Clock.fixed(Instant.parse("2024-01-01T00:30:00Z"), ZoneId.of("Asia/Seoul")));
+
+        assertThat(DateUtil.getDateTime(DateUtil.DATE_TIME_FORMAT)).isEqualTo("2024-01-01 09:30:00");
+        assertThat(DateUtil.getDateTime()).isEqualTo("2024.01.01");
+        assertThat(DateUtil.now()).isEqualTo(LocalDateTime.of(2024, 1, 1, 9, 30));
+    }
+
+    @Test
+    void legacyStringsAreParsed() {
+
+        LocalDateTime expected = LocalDateTime.of(2024, 1, 1, 9, 30);
+
+        assertThat(DateUtil.parse("2024-01-01 09:30:00")).isEqualTo(expected);
+        assertThat(DateUtil.parse("2024-01-01T09:30")).isEqualTo(expected);
+        assertThat(DateUtil.parse("2024.01.01 09:30:00")).isEqualTo(expected);
+        assertThat(DateUtil.parse("2024-01-01 09:30:00.123")).isEqualTo(expected.withNano(123_000_000));
+        assertThat(DateUtil.parse("2024/01/01")).isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+        assertThat(DateUtil.parse(" ")).isNull();
+        assertThat(DateUtil.parse(null)).isNull();
+    }
+
+    @Test
+    void converterKeepsLegacyColumnFormat() {
+
+        LegacyDateTimeConverter converter = new LegacyDateTimeConverter();
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 1, 9, 30);
+
+        assertThat(converter.convertToDatabaseColumn(dateTime)).isEqualTo("2024-01-01 09:30:00");
+        assertThat(converter.convertToEntityAttribute("2024-01-01 09:30:00")).isEqualTo(dateTime);
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+}
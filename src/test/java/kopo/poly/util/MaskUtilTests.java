@@ -0,0 +1,41 @@
+package kopo.poly.util;
+
+import kopo.poly.dto.UserInfoDTO;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MaskUtil 테스트(로그 출력용 개인정보 마스킹)
+ */
+class MaskUtilTests {
+
+    @Test
+    void passwordIsMaskedWithFixedLength() {
+        assertThat(MaskUtil.password("1234")).isEqualTo("****");
+        assertThat(MaskUtil.password("a-very-long-password")).isEqualTo("****");
+        assertThat(MaskUtil.password(null)).isNull();
+    }
+
+    @Test
+    void emailKeepsFirstTwoCharactersAndDomain() {
+        assertThat(MaskUtil.email("hglee67@kopo.ac.kr")).isEqualTo("hg*****@kopo.ac.kr");
+        assertThat(MaskUtil.email("a@kopo.ac.kr")).isEqualTo("a@kopo.ac.kr");
+        assertThat(MaskUtil.email("hglee67")).isEqualTo("****");
+        assertThat(MaskUtil.email("")).isEmpty();
+    }
+
+    @Test
+    void userInfoDTOToStringDoesNotExposePasswordOrEmail() {
+
+        UserInfoDTO dto = UserInfoDTO.builder()
+                .userId("hglee67")
+                .password("1234")
+                .email("hglee67@kopo.ac.kr")
+                .build();
+
+        assertThat(dto.toString())
+                .contains("userId=hglee67", "password=****", "email=hg*****@kopo.ac.kr")
+                .doesNotContain("1234", "hglee67@kopo.ac.kr");
+    }
+}